@@ -30,13 +30,58 @@ axios.interceptors.request.use(
     }
 );
 
+// 🔄 진행 중인 토큰 재발급 (리프레시 토큰은 1회용 → 동시에 401을 받은 요청들이 이 Promise 하나를 공유)
+let refreshPromise = null;
+
+const refreshAccessToken = () => {
+    if (!refreshPromise) {
+        const refreshToken = localStorage.getItem('refreshToken');
+        refreshPromise = axios.post('http://localhost:8080/api/auth/refresh', { refreshToken })
+            .then(({ data }) => {
+                localStorage.setItem('token', data.token);
+                localStorage.setItem('refreshToken', data.refreshToken);
+                return data.token;
+            })
+            .finally(() => {
+                refreshPromise = null;
+            });
+    }
+    return refreshPromise;
+};
+
 // ⚠️ 응답 인터셉터: 401 에러(세션 만료) 시 자동 로그아웃
 axios.interceptors.response.use(
     (response) => {
         // 정상 응답은 그대로 통과
         return response;
     },
-    (error) => {
+    async (error) => {
+        const originalRequest = error.config;
+        const refreshToken = localStorage.getItem('refreshToken');
+
+        // 🔄 무상태 토큰 모드: 액세스 토큰 만료 시 재발급 후 1번만 재시도
+        // - 재발급이 이미 진행 중이면 같은 Promise를 기다렸다가 새 토큰으로 재시도
+        // - 요청을 보낸 뒤 다른 요청이 이미 재발급을 마쳤으면 재발급 없이 새 토큰으로 재시도
+        if (error.response?.status === 401 && refreshToken && originalRequest && !originalRequest._retry
+            && !originalRequest.url?.includes('/api/auth/refresh')) {
+            originalRequest._retry = true;
+            let token = null;
+            try {
+                const currentToken = localStorage.getItem('token');
+                const sentToken = originalRequest.headers?.Authorization?.replace('Bearer ', '');
+                token = refreshPromise || !currentToken || sentToken === currentToken
+                    ? await refreshAccessToken()
+                    : currentToken;
+            } catch (refreshError) {
+                // 리프레시 토큰도 만료됨 → 아래에서 로그아웃 처리
+                localStorage.removeItem('refreshToken');
+            }
+            if (token) {
+                originalRequest.headers.Authorization = `Bearer ${token}`;
+                return axios(originalRequest);
+            }
+        }
+
         // 401 Unauthorized 에러 (세션 만료 또는 로그인 필요)
         if (error.response?.status === 401) {
             // 현재 경로가 로그인/회원가입 페이지가 아닌 경우에만 처리
@@ -46,6 +91,7 @@ axios.interceptors.response.use(
 
                 // 로그아웃 처리: localStorage 초기화
                 localStorage.removeItem('token');
+                localStorage.removeItem('refreshToken');
                 localStorage.removeItem('userEmail');
                 localStorage.removeItem('userNickname');
                 localStorage.removeItem('userRole');
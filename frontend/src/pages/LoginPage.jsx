@@ -50,10 +50,13 @@ function LoginPage() {
 
         try {
             const response = await axios.post('http://localhost:8080/api/auth/login', formData);
-            const { token, email, nickname, role } = response.data;
+            const { token, refreshToken, email, nickname, role } = response.data;
 
             // 토큰과 사용자 정보를 로컬 스토리지에 저장
             localStorage.setItem('token', token);
+            if (refreshToken) {
+                localStorage.setItem('refreshToken', refreshToken); // 무상태 토큰 모드일 때만 발급됨
+            }
             localStorage.setItem('userEmail', email);
             localStorage.setItem('userNickname', nickname);
             localStorage.setItem('userRole', role); // 권한 정보 저장
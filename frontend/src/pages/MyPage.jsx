@@ -121,6 +121,7 @@ function MyPage() {
             localStorage.removeItem('userEmail');
             localStorage.removeItem('userNickname');
             localStorage.removeItem('token');
+            localStorage.removeItem('refreshToken');
 
             showAlert('탈퇴 완료', '회원탈퇴가 완료되었습니다.', 'success', () => {
                 navigate('/');
@@ -1,4 +1,4 @@
-import { useState, useEffect } from 'react';
+import { useState, useEffect, useRef } from 'react';
 import axios from 'axios';
 import { Plus, Trash2, MapPin, Clock, Edit2, X, Save } from 'lucide-react';
 import PlaceSearch from './PlaceSearch';
@@ -8,10 +8,14 @@ import { Stomp } from '@stomp/stompjs';
 import SockJS from 'sockjs-client';
 
 function Schedule({ travel }) {
-    const [schedules, setSchedules] = useState([]);
+    const [tripSchedules, setTripSchedules] = useState({});
     const [selectedDay, setSelectedDay] = useState(1);
+    // Day tabs are sliced from the whole-trip response (no request per day)
+    const schedules = tripSchedules[selectedDay] || [];
     const [isSearchOpen, setIsSearchOpen] = useState(false);
     const [isMapOpen, setIsMapOpen] = useState(false);
+    // Optimization job submitted from this tab (result alert is shown only for our own job)
+    const pendingJobId = useRef(null);
     
     // Edit Modal State
     const [isEditModalOpen, setIsEditModalOpen] = useState(false);
@@ -57,7 +61,7 @@ function Schedule({ travel }) {
         if (travel && travel.travelId) {
             fetchSchedules();
         }
-    }, [travel, selectedDay]);
+    }, [travel]);
 
     // WebSocket connection for real-time schedule updates
     useEffect(() => {
@@ -68,9 +72,22 @@ function Schedule({ travel }) {
 
         stompClient.connect({}, () => {
             stompClient.subscribe(`/topic/travel/${travel.travelId}`, (message) => {
-                if (message.body === 'SCHEDULE_OPTIMIZED') {
-                    // Refresh schedules when optimization is done
+                const event = parseEvent(message.body);
+                if (!event) return;
+
+                if (event.type === 'SCHEDULE_OPTIMIZED') {
+                    // Refresh schedules when optimization changed something (changedIds empty = already in order)
+                    if (!event.changedIds || event.changedIds.length > 0) {
+                        fetchSchedules();
+                    }
+                    if (event.jobId && event.jobId === pendingJobId.current) {
+                        pendingJobId.current = null;
+                        showOptimizeResult(event);
+                    }
+                } else if (event.type === 'SCHEDULE_OPTIMIZE_FAILED' && event.jobId === pendingJobId.current) {
+                    pendingJobId.current = null;
                     fetchSchedules();
+                    showAlert('실패', event.error || "최적화 실패", 'error');
                 }
             });
         }, (error) => {
@@ -84,10 +101,49 @@ function Schedule({ travel }) {
         };
     }, [travel]);
 
+    // Optimization events are JSON ({ type, jobId, day, order, ... }); other messages on the topic are plain strings
+    const parseEvent = (body) => {
+        if (!body || body[0] !== '{') return null;
+        try {
+            return JSON.parse(body);
+        } catch (e) {
+            return null;
+        }
+    };
+
+    const showOptimizeResult = (result) => {
+        showAlert('성공', result.afterCost
+            ? `동선이 최적화되었습니다! ⚡\n이동 ${result.unit === 'min' ? '시간' : '거리'} ${result.beforeCost}${result.unit || 'km'} → ${result.afterCost}${result.unit || 'km'}`
+            : "동선이 최적화되었습니다! ⚡");
+    };
+
+    // The job may finish (and its WebSocket event arrive) before the POST response sets pendingJobId,
+    // so check the job once after registering it and finish here if it is already done
+    const checkJob = async (jobId) => {
+        try {
+            const { data } = await axios.get(`http://localhost:8080/api/schedules/jobs/${jobId}`);
+            if (pendingJobId.current !== jobId) return;
+            if (data.status === 'COMPLETED') {
+                pendingJobId.current = null;
+                if (!data.result || !data.result.changedIds || data.result.changedIds.length > 0) {
+                    fetchSchedules();
+                }
+                showOptimizeResult(data.result || {});
+            } else if (data.status === 'FAILED') {
+                pendingJobId.current = null;
+                fetchSchedules();
+                showAlert('실패', data.error || "최적화 실패", 'error');
+            }
+        } catch (err) {
+            // Still pending from our side; the WebSocket event will finish it
+            console.error('Optimize job check failed:', err.message);
+        }
+    };
+
     const fetchSchedules = () => {
-        axios.get(`http://localhost:8080/api/schedules/${travel.travelId}/${selectedDay}`)
+        axios.get(`http://localhost:8080/api/schedules/${travel.travelId}`)
             .then(res => {
-                setSchedules(res.data);
+                setTripSchedules(res.data);
             })
             .catch(err => {
                 console.error('Failed to fetch schedules:', err.message || 'Unknown error');
@@ -195,12 +251,20 @@ function Schedule({ travel }) {
         if (!window.confirm(`${selectedDay}일차 동선을 최적화할까요?\n(거리순으로 정렬되고 시간이 재설정됩니다)`)) return;
 
         try {
-            await axios.post(`http://localhost:8080/api/schedules/${travel.travelId}/${selectedDay}/optimize`);
-            fetchSchedules(); 
-            showAlert('성공', "동선이 최적화되었습니다! ⚡");
+            // Runs as a background job; the result arrives over WebSocket (same job if someone else already started it)
+            const res = await axios.post(`http://localhost:8080/api/schedules/${travel.travelId}/${selectedDay}/optimize`);
+            pendingJobId.current = res.data.jobId;
+            showAlert('최적화 중', res.data.joined
+                ? "다른 멤버가 요청한 최적화가 진행 중입니다. 완료되면 자동으로 반영됩니다."
+                : "동선을 계산하고 있습니다. 완료되면 자동으로 반영됩니다.");
+            checkJob(res.data.jobId);
         } catch (err) {
-            if (err.response && err.response.status === 409) {
-                showAlert('충돌 감지', '누군가 먼저 수정했습니다. 목록을 새로고침합니다.', 'error');
+            if (err.response && err.response.status === 503) {
+                showAlert('잠시 후 다시', '최적화 요청이 많습니다. 잠시 후 다시 시도해주세요.', 'error');
+            } else if (err.response && err.response.status === 409) {
+                showAlert('충돌 감지', typeof err.response.data === 'string' && err.response.data
+                    ? err.response.data
+                    : '누군가 먼저 수정했습니다. 목록을 새로고침합니다.', 'error');
                 fetchSchedules();
             } else {
                 console.error('Optimize failed:', err.message);
@@ -0,0 +1,47 @@
+package com.podo.server.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 해싱 처리량 벤치마크
+ *
+ * 🎯 목적: security.bcrypt.strength 값별로 "코어 1개당 초당 해싱 횟수"를 측정하여
+ *         로그인 지연 시간과 보안 강도 사이에서 cost 값을 정하는 근거로 사용
+ *
+ * 📌 실행: ./gradlew jmh -PjmhIncludes=BCryptBenchmark
+ * - @Threads(1) 이므로 결과(ops/s)가 곧 코어당 hashes/sec
+ * - 예) strength=10 에서 약 10 ops/s → passwordHashExecutor 8스레드면 초당 로그인 약 80건 처리
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Threads(1)
+public class BCryptBenchmark {
+
+    @Param({"10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private String encoded;
+
+    @Setup
+    public void setup() {
+        encoder = new BCryptPasswordEncoder(strength);
+        encoded = encoder.encode("podo-benchmark-password");
+    }
+
+    // 회원가입 경로 (새 salt 생성 + 해싱)
+    @Benchmark
+    public String encode() {
+        return encoder.encode("podo-benchmark-password");
+    }
+
+    // 로그인 경로 (저장된 해시와 비교)
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches("podo-benchmark-password", encoded);
+    }
+}
@@ -0,0 +1,66 @@
+package com.podo.server.benchmark;
+
+import com.podo.server.cache.CacheSerializers;
+import com.podo.server.entity.Schedule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 직렬화 코덱 비교 벤치마크 (json vs smile vs smile+gzip)
+ *
+ * 🎯 목적: "schedules" 캐시 값(하루치 List<Schedule>)의 Redis 저장 크기와 직렬화/역직렬화 시간 비교
+ *
+ * 📌 실행: ./gradlew jmh -PjmhIncludes=CacheSerializerBenchmark
+ * - 저장 크기(바이트)는 벤치마크 시작 시 콘솔에 "[payload]" 로 출력
+ * - 시간 결과는 값 1개당 마이크로초 (작을수록 좋음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class CacheSerializerBenchmark {
+
+    // smile: 압축 없음, smile-gzip: 1KB 초과 시 압축 (기본 설정)
+    @Param({"json", "smile", "smile-gzip"})
+    private String codec;
+
+    @Param({"8", "40"})
+    private int schedulesPerDay;
+
+    private RedisSerializer<Object> serializer;
+    private List<Schedule> value;
+    private byte[] encoded;
+
+    @Setup
+    public void setup() {
+        serializer = switch (codec) {
+            case "smile" -> CacheSerializers.forCodec("smile", 0);
+            case "smile-gzip" -> CacheSerializers.forCodec("smile", 1024);
+            default -> CacheSerializers.forCodec(codec, 0);
+        };
+        value = new ArrayList<>();
+        for (int i = 0; i < schedulesPerDay; i++) {
+            Schedule schedule = new Schedule(1, LocalTime.of(9 + i / 4, (i % 4) * 15), "activity",
+                    "경복궁 관람 " + i, null, "blue", "경복궁", 126.9770 + i * 0.001, 37.5796 + i * 0.001,
+                    "서울 종로구 사직로 161", null);
+            schedule.setId((long) i + 1);
+            value.add(schedule);
+        }
+        encoded = serializer.serialize(value);
+        System.out.printf("%n[payload] codec=%s schedulesPerDay=%d bytes=%d%n", codec, schedulesPerDay, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(encoded);
+    }
+}
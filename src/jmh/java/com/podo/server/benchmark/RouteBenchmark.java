@@ -0,0 +1,90 @@
+package com.podo.server.benchmark;
+
+import com.podo.server.route.DistanceMatrix;
+import com.podo.server.route.NearestNeighbor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동선 최적화 탐욕법 경로 생성 벤치마크 (기존 방식 vs 거리 행렬 방식)
+ *
+ * 🎯 목적: RouteService 거리 계산/탐색 구조 변경 근거 자료
+ *
+ * 📌 시나리오: 서울 근방 임의 좌표 {stops}개로 Nearest Neighbor 경로 1개 생성
+ * - legacyList: 기존 방식 (비교마다 toRadians/cos 재계산 + ArrayList.remove)
+ * - matrix: 거리 행렬 생성 + int 인덱스 탐색 (행렬 생성 시간 포함)
+ *
+ * 📌 실행: ./gradlew jmh -PjmhIncludes=RouteBenchmark
+ * - 결과는 경로 1개 생성 시간(us) (작을수록 좋음)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class RouteBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int stops;
+
+    private double[] latitudes;
+    private double[] longitudes;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        latitudes = new double[stops];
+        longitudes = new double[stops];
+        for (int i = 0; i < stops; i++) {
+            latitudes[i] = 37.4 + random.nextDouble() * 0.3;
+            longitudes[i] = 126.8 + random.nextDouble() * 0.4;
+        }
+    }
+
+    @Benchmark
+    public int legacyList() {
+        List<double[]> remaining = new ArrayList<>();
+        for (int i = 0; i < stops; i++) {
+            remaining.add(new double[]{latitudes[i], longitudes[i]});
+        }
+        List<double[]> route = new ArrayList<>();
+        double[] current = remaining.remove(0);
+        route.add(current);
+
+        while (!remaining.isEmpty()) {
+            double[] nearest = null;
+            double minDistance = Double.MAX_VALUE;
+            for (double[] target : remaining) {
+                double dist = legacyDistance(current[0], current[1], target[0], target[1]);
+                if (dist < minDistance) {
+                    minDistance = dist;
+                    nearest = target;
+                }
+            }
+            route.add(nearest);
+            remaining.remove(nearest);
+            current = nearest;
+        }
+        return route.size();
+    }
+
+    @Benchmark
+    public int[] matrix() {
+        DistanceMatrix distance = DistanceMatrix.haversine(latitudes, longitudes);
+        return NearestNeighbor.solve(distance, stops, 0);
+    }
+
+    // 변경 전 RouteService.calculateDistance와 같은 계산
+    private static double legacyDistance(double lat1, double lon1, double lat2, double lon2) {
+        final int R = 6371;
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
+                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
+                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+        return R * c;
+    }
+}
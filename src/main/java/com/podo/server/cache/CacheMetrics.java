@@ -0,0 +1,104 @@
+package com.podo.server.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.redis.cache.CacheStatisticsProvider;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시별 Micrometer 지표 등록/기록
+ *
+ * 📊 지표 목록 (태그: cache = 캐시 이름, cache.manager = cacheManager):
+ * - cache.gets{result=hit|miss}: Redis 조회 적중/미스 (RedisCacheManager 통계)
+ * - cache.l1.gets{result=hit|miss}: L1(서버 메모리) 조회 적중/미스 - L1 적중은 Redis 통계에 잡히지 않음
+ *   (L1 미스는 이어서 Redis를 조회하므로 cache.gets에도 한 번 더 기록됨)
+ * - cache.puts: Redis 저장 횟수
+ * - cache.evictions: Redis 삭제 횟수 (evict + clear)
+ * - cache.load.duration: 캐시 미스/조기 갱신 시 값을 만드는 데 걸린 시간 (DB 조회 등)
+ * - cache.payload.size: Redis에 저장되는 직렬화 값 크기 (바이트, 압축 후)
+ *
+ * 📌 확인: GET /actuator/metrics/cache.gets?tag=cache:schedules
+ *
+ * 💡 캐시 이름을 미리 알 필요 없음 - 처음 사용되는 캐시는 그때 지표가 등록됨
+ */
+public class CacheMetrics {
+
+    private static final String CACHE_MANAGER = "cacheManager";
+
+    private final MeterRegistry registry;
+    private final Map<String, Boolean> boundCaches = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> payloadSizes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> loadTimers = new ConcurrentHashMap<>();
+
+    public CacheMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * RedisCacheManager 통계(적중/미스/저장/삭제)를 지표로 등록 (캐시당 한 번만)
+     */
+    public void bindStatistics(String cacheName, CacheStatisticsProvider statistics) {
+        if (boundCaches.putIfAbsent(cacheName, Boolean.TRUE) != null) {
+            return;
+        }
+        Tags tags = tags(cacheName);
+        FunctionCounter.builder("cache.gets", statistics, s -> s.getCacheStatistics(cacheName).getHits())
+                .tags(tags).tag("result", "hit")
+                .description("캐시 적중 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", statistics, s -> s.getCacheStatistics(cacheName).getMisses())
+                .tags(tags).tag("result", "miss")
+                .description("캐시 미스 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.puts", statistics, s -> s.getCacheStatistics(cacheName).getPuts())
+                .tags(tags)
+                .description("캐시 저장 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", statistics, s -> s.getCacheStatistics(cacheName).getDeletes())
+                .tags(tags)
+                .description("캐시 삭제 횟수")
+                .register(registry);
+    }
+
+    /**
+     * L1(Caffeine) 적중/미스를 지표로 등록 (TwoLevelCache 생성 시 한 번)
+     */
+    void bindL1Statistics(String cacheName, TwoLevelCache cache) {
+        Tags tags = tags(cacheName);
+        FunctionCounter.builder("cache.l1.gets", cache, c -> c.l1Stats().hitCount())
+                .tags(tags).tag("result", "hit")
+                .description("L1 캐시 적중 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.l1.gets", cache, c -> c.l1Stats().missCount())
+                .tags(tags).tag("result", "miss")
+                .description("L1 캐시 미스 횟수")
+                .register(registry);
+    }
+
+    public void recordPayloadSize(String cacheName, int bytes) {
+        payloadSizes.computeIfAbsent(cacheName, name -> DistributionSummary.builder("cache.payload.size")
+                        .tags(tags(name))
+                        .baseUnit("bytes")
+                        .description("Redis에 저장되는 캐시 값 크기")
+                        .register(registry))
+                .record(bytes);
+    }
+
+    public void recordLoad(String cacheName, long nanos) {
+        loadTimers.computeIfAbsent(cacheName, name -> Timer.builder("cache.load.duration")
+                        .tags(tags(name))
+                        .description("캐시 미스 시 값 로딩 시간")
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Tags tags(String cacheName) {
+        return Tags.of("cache", cacheName, "cache.manager", CACHE_MANAGER);
+    }
+}
@@ -0,0 +1,72 @@
+package com.podo.server.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * 캐시 값 직렬화기 모음 (cache.codec 설정으로 선택)
+ *
+ * 📦 코덱 종류:
+ * - json: Jackson JSON 텍스트
+ * - smile: Jackson Smile 바이너리 + 일정 크기 이상이면 GZIP 압축 (기본값)
+ *
+ * 💡 smile 코덱은 기존 JSON 값도 읽을 수 있으므로 코덱을 바꿔도 캐시를 비울 필요 없음
+ */
+public final class CacheSerializers {
+
+    private CacheSerializers() {
+    }
+
+    public static RedisSerializer<Object> forCodec(String codec, int compressionThresholdBytes) {
+        if ("json".equalsIgnoreCase(codec)) {
+            return json();
+        }
+        if ("smile".equalsIgnoreCase(codec)) {
+            return compact(compressionThresholdBytes);
+        }
+        throw new IllegalArgumentException("지원하지 않는 캐시 코덱입니다: " + codec);
+    }
+
+    /**
+     * JSON 직렬화기
+     *
+     * - 타입 정보를 함께 저장하여 캐시에서 꺼낼 때도 원래 타입(예: List<Schedule>)으로 복원
+     *   (여행 일정 캐시는 꺼낸 뒤 일차별로 잘라야 하므로 Map이 아닌 Schedule로 복원되어야 함)
+     */
+    public static RedisSerializer<Object> json() {
+        // ObjectMapper 설정 (LocalDateTime 등 Java 8 시간 API 지원)
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        activateTyping(objectMapper);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    /**
+     * Smile 바이너리 + GZIP 압축 직렬화기
+     */
+    public static RedisSerializer<Object> compact(int compressionThresholdBytes) {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        smileMapper.registerModule(new JavaTimeModule());
+        activateTyping(smileMapper);
+        return new CompactRedisSerializer(smileMapper, json(), compressionThresholdBytes);
+    }
+
+    // 타입 정보는 우리 패키지, java.util, java.time 클래스만 허용 (역직렬화 공격 방지)
+    private static void activateTyping(ObjectMapper mapper) {
+        mapper.activateDefaultTyping(
+                BasicPolymorphicTypeValidator.builder()
+                        .allowIfSubType("com.podo.server.")
+                        .allowIfSubType("java.util.")
+                        .allowIfSubType("java.time.")
+                        .build(),
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY);
+    }
+}
@@ -0,0 +1,21 @@
+package com.podo.server.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis에 저장되는 캐시 값 봉투 (SingleFlightCache에서 사용)
+ *
+ * - value: 실제 캐시 값
+ * - expiresAtMillis: 만료 예정 시각 (조기 갱신 확률 계산용)
+ * - loadMillis: 값을 만드는 데 걸린 시간 (오래 걸리는 값일수록 일찍 갱신)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue {
+    private Object value;
+    private long expiresAtMillis;
+    private long loadMillis;
+}
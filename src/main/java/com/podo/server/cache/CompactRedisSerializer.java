@@ -0,0 +1,85 @@
+package com.podo.server.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Smile 바이너리 캐시 직렬화기 (선택적 GZIP 압축)
+ *
+ * 📨 저장 형식: [헤더 1바이트][본문]
+ * - 0x01: Smile 본문 그대로
+ * - 0x02: GZIP으로 압축한 Smile 본문 (압축 기준 크기를 넘을 때만)
+ * - 그 외: 헤더 없는 기존 JSON 값 → legacy 직렬화기로 읽음 (코덱 전환 중 호환)
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    private static final byte SMILE = 0x01;
+    private static final byte SMILE_GZIP = 0x02;
+
+    private final ObjectMapper smileMapper;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThresholdBytes;
+
+    public CompactRedisSerializer(ObjectMapper smileMapper, RedisSerializer<Object> legacySerializer,
+                                  int compressionThresholdBytes) {
+        this.smileMapper = smileMapper;
+        this.legacySerializer = legacySerializer;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        try {
+            byte[] body = smileMapper.writeValueAsBytes(value);
+            boolean compress = compressionThresholdBytes > 0 && body.length > compressionThresholdBytes;
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length + 1);
+            out.write(compress ? SMILE_GZIP : SMILE);
+            if (compress) {
+                // 압축률보다 속도 우선 (캐시 값은 자주 쓰고 읽으므로)
+                try (GZIPOutputStream gzip = new GZIPOutputStream(out) {{ def.setLevel(Deflater.BEST_SPEED); }}) {
+                    gzip.write(body);
+                }
+            } else {
+                out.write(body);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 직렬화 실패", e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            switch (bytes[0]) {
+                case SMILE:
+                    return smileMapper.readValue(bytes, 1, bytes.length - 1, Object.class);
+                case SMILE_GZIP:
+                    try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+                        return smileMapper.readValue(gzip, Object.class);
+                    }
+                default:
+                    return legacySerializer.deserialize(bytes);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 역직렬화 실패", e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.podo.server.cache;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 지표 기록용 RedisCacheWriter 래퍼
+ *
+ * - 실제 Redis 읽기/쓰기는 delegate가 담당
+ * - 여기서는 캐시 이름별 지표 등록 + 저장되는 값(직렬화 후 바이트) 크기만 기록
+ */
+public class MeteredRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final CacheMetrics metrics;
+
+    public MeteredRedisCacheWriter(RedisCacheWriter delegate, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        metrics.bindStatistics(name, this);
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        metrics.bindStatistics(name, this);
+        return delegate.get(name, key, ttl);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Supplier<byte[]> valueLoader, Duration ttl, boolean timeToIdleEnabled) {
+        metrics.bindStatistics(name, this);
+        return delegate.get(name, key, valueLoader, ttl, timeToIdleEnabled);
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key) {
+        metrics.bindStatistics(name, this);
+        return delegate.retrieve(name, key);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        metrics.bindStatistics(name, this);
+        return delegate.retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        recordPut(name, value);
+        delegate.put(name, key, value, ttl);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        recordPut(name, value);
+        return delegate.store(name, key, value, ttl);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        recordPut(name, value);
+        return delegate.putIfAbsent(name, key, value, ttl);
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        metrics.bindStatistics(name, this);
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        metrics.bindStatistics(name, this);
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new MeteredRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), metrics);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    private void recordPut(String name, byte[] value) {
+        metrics.bindStatistics(name, this);
+        if (value != null) {
+            metrics.recordPayloadSize(name, value.length);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.podo.server.cache;
+
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 서킷 브레이커로 감싼 캐시 (ResilientCacheManager에서 생성)
+ *
+ * - 조회 실패 → 캐시 미스 (null 반환, 호출한 쪽이 DB 조회)
+ * - 저장 실패 → 무시 (다음 조회 때 다시 DB 조회)
+ * - 삭제 실패 → 놓친 키를 기록해 두었다가 다음 Redis 호출이 성공할 때 먼저 다시 삭제
+ *   (서킷 상태 전환 이벤트에 의존하지 않음, 놓친 키가 너무 많거나 clear 실패 시 캐시 전체 삭제)
+ */
+@Slf4j
+public class ResilientCache implements Cache {
+
+    private final Cache delegate;
+    private final CircuitBreaker circuitBreaker;
+
+    // 기록해 둘 놓친 삭제 키 최대 개수 (넘으면 캐시 전체 삭제로 대체)
+    private static final int MAX_MISSED_KEYS = 10_000;
+
+    // 장애 중 삭제하지 못한 키 / 전체 삭제(clear)를 놓쳤는지 여부
+    private final Set<Object> missedKeys = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean clearMissed = new AtomicBoolean(false);
+
+    public ResilientCache(Cache delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return call(() -> delegate.get(key), null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return call(() -> delegate.get(key, type), null);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            @SuppressWarnings("unchecked")
+            T value = (T) cached.get();
+            return value;
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        call(() -> {
+            delegate.put(key, value);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!Boolean.TRUE.equals(call(() -> {
+            delegate.evict(key);
+            return true;
+        }, false))) {
+            recordMissedEviction(key);
+        }
+    }
+
+    @Override
+    public void clear() {
+        if (!Boolean.TRUE.equals(call(() -> {
+            delegate.clear();
+            return true;
+        }, false))) {
+            clearMissed.set(true);
+            missedKeys.clear();
+        }
+    }
+
+    private void recordMissedEviction(Object key) {
+        if (missedKeys.size() >= MAX_MISSED_KEYS) {
+            clearMissed.set(true);
+            missedKeys.clear();
+            return;
+        }
+        missedKeys.add(key);
+    }
+
+    /**
+     * 장애 중 놓친 삭제를 Redis에 다시 반영 (모든 캐시 호출 직전에 실행)
+     *
+     * @return true: 남은 놓친 삭제 없음 (Redis 사용 가능), false: 반영 실패 (이번 호출은 fallback)
+     *
+     * 💡 반영이 끝나기 전에는 Redis 값을 읽지 않음 → 장애 중 바뀐 데이터의 오래된 캐시를 돌려주지 않도록
+     */
+    boolean replayMissedEvictions() {
+        if (clearMissed.compareAndSet(true, false)) {
+            if (!execute(() -> {
+                delegate.clear();
+                return true;
+            })) {
+                clearMissed.set(true);
+                return false;
+            }
+            log.info("🧹 Redis 복구 - 장애 중 놓친 삭제 반영을 위해 캐시 전체 삭제: {}", getName());
+        }
+
+        for (Object key : missedKeys) {
+            // 먼저 제거 후 삭제 → 삭제 도중 다시 기록된 키를 잃지 않음
+            if (!missedKeys.remove(key)) {
+                continue;
+            }
+            if (!execute(() -> {
+                delegate.evict(key);
+                return true;
+            })) {
+                recordMissedEviction(key);
+                return false;
+            }
+            log.debug("🧹 Redis 복구 - 장애 중 놓친 캐시 삭제 반영: {}::{}", getName(), key);
+        }
+        return !clearMissed.get();
+    }
+
+    private <T> T call(Supplier<T> action, T fallback) {
+        if (!replayMissedEvictions()) {
+            return fallback;
+        }
+        try {
+            return circuitBreaker.executeSupplier(action);
+        } catch (CallNotPermittedException e) {
+            return fallback; // 서킷 열림: Redis 호출 없이 바로 DB로
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 캐시 작업 실패 ({}) - DB로 대체: {}", getName(), e.getMessage());
+            return fallback;
+        }
+    }
+
+    // 놓친 삭제 반영용 호출 (실패 시 false, 로그는 call()과 동일)
+    private boolean execute(Supplier<Boolean> action) {
+        try {
+            return Boolean.TRUE.equals(circuitBreaker.executeSupplier(action));
+        } catch (CallNotPermittedException e) {
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 놓친 캐시 삭제 반영 실패 ({}): {}", getName(), e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.podo.server.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서킷 브레이커가 적용된 캐시 매니저 (RedisCacheManager 래퍼)
+ *
+ * 🎯 목적: Redis 장애 시 @Cacheable 호출이 실패하지 않고 DB 조회로 넘어가도록 함 (fail-open)
+ *
+ * 📌 동작 방식:
+ * - 실제 캐시는 delegate(RedisCacheManager)가 담당, 여기서는 ResilientCache로 감싸기만 함
+ * - 서킷이 닫혀 있으면(Redis 정상) 그대로 Redis 사용
+ * - 서킷이 열리면(Redis 장애) 캐시 미스로 처리 → 메서드 본문(DB 조회) 실행
+ * - 장애 중 놓친 삭제(evict)는 ResilientCache가 기록해 두었다가 다음 Redis 호출이 성공할 때 다시 삭제
+ *   (서킷이 닫힐 때도 한 번 시도하지만, 상태 전환 이벤트를 놓쳐도 다음 호출에서 반영됨)
+ */
+public class ResilientCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager delegate, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+
+        // Redis 복구 시 장애 중 삭제하지 못한 키를 미리 정리 (실패해도 다음 캐시 호출에서 재시도)
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                caches.values().forEach(ResilientCache::replayMissedEvictions);
+            }
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        ResilientCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new ResilientCache(target, circuitBreaker));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
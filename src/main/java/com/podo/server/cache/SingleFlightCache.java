@@ -0,0 +1,277 @@
+package com.podo.server.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 캐시 쇄도(stampede) 방지 캐시 (SingleFlightCacheManager에서 생성)
+ *
+ * - 조회: 값이 있으면 반환 + 만료가 가까우면 확률적으로 백그라운드 갱신
+ * - 미스: 같은 키는 한 요청만 로딩하고 나머지는 그 결과를 기다림
+ * - 저장 값은 CachedValue로 감싸서 만료 시각/로딩 시간을 함께 보관 (꺼낼 때 벗겨서 반환)
+ *
+ * 💡 로딩 중에 삭제/저장이 일어나면 로딩 결과는 캐시에 넣지 않음 (수정 전 데이터가 다시 캐싱되는 것 방지)
+ *    - 확인 후 저장하는 사이에 삭제가 끼어들 수 있으므로 저장한 뒤 한 번 더 확인하고, 그사이 삭제됐으면 지움
+ *      (로딩 중 저장(put)이 있었던 경우도 지움 → 다음 조회에서 다시 로딩)
+ *    - 다른 서버의 삭제는 L1 무효화 메시지로 전달받음 (TwoLevelCache → onRemoteInvalidate)
+ *      메시지 도착 시 로딩 중이면 위와 같이 처리, 방금(RECENT_LOAD_WINDOW 안에) 저장했으면 그 값을 지움
+ */
+@Slf4j
+public class SingleFlightCache implements Cache {
+
+    private final Cache delegate;
+    private final Duration ttl;
+    private final Executor refreshExecutor;
+    private final double beta;
+    private final long minDeltaMillis;
+    private final long waitTimeoutMillis;
+    private final CacheMetrics metrics;
+
+    // 다른 서버의 삭제 메시지가 도착하기 전에 저장했을 수 있는 시간 (Pub/Sub 지연보다 넉넉하게)
+    static final Duration RECENT_LOAD_WINDOW = Duration.ofSeconds(5);
+
+    // 키별 진행 중인 로딩
+    private final Map<Object, Flight> inFlight = new ConcurrentHashMap<>();
+
+    // 최근 로딩 결과를 저장한 키 (Redis 키와 같은 문자열)
+    private final com.github.benmanes.caffeine.cache.Cache<String, Boolean> recentLoads = Caffeine.newBuilder()
+            .expireAfterWrite(RECENT_LOAD_WINDOW)
+            .maximumSize(10_000)
+            .build();
+
+    public SingleFlightCache(Cache delegate, Duration ttl, Executor refreshExecutor,
+                             double beta, long minDeltaMillis, long waitTimeoutMillis, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.refreshExecutor = refreshExecutor;
+        this.beta = beta;
+        this.minDeltaMillis = minDeltaMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(unwrap(wrapper.get()));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        if (wrapper != null) {
+            Object raw = wrapper.get();
+            if (raw instanceof CachedValue entry && shouldRefreshEarly(entry)) {
+                refreshInBackground(key, valueLoader);
+            }
+            return (T) unwrap(raw);
+        }
+        return (T) load(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        invalidateFlight(key);
+        delegate.put(key, wrap(value, 0));
+    }
+
+    @Override
+    public void evict(Object key) {
+        invalidateFlight(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        inFlight.values().forEach(flight -> flight.invalidated = true);
+        delegate.clear();
+    }
+
+    /**
+     * 다른 서버에서 삭제/저장한 키 (L1 무효화 메시지 수신 시, 저장소 삭제는 보낸 서버가 이미 처리)
+     * - 이 서버에서 로딩 중이면: 결과를 저장하지 않음 (저장 직후 재확인에서 지움)
+     * - 방금 로딩 결과를 저장했으면: 보낸 서버의 삭제보다 늦게 저장됐을 수 있으므로 지움
+     */
+    void onRemoteInvalidate(String key) {
+        inFlight.forEach((k, flight) -> {
+            if (key.equals(String.valueOf(k))) {
+                flight.invalidated = true;
+            }
+        });
+        if (recentLoads.asMap().remove(key) != null) {
+            delegate.evict(key);
+        }
+    }
+
+    void onRemoteClear() {
+        inFlight.values().forEach(flight -> flight.invalidated = true);
+        recentLoads.asMap().keySet().removeIf(key -> {
+            delegate.evict(key);
+            return true;
+        });
+    }
+
+    /**
+     * 미스 처리: 같은 키를 먼저 로딩 중인 요청이 있으면 그 결과를 기다림
+     */
+    private Object load(Object key, Callable<?> valueLoader) {
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            return await(existing, key, valueLoader);
+        }
+
+        try {
+            Object value = loadAndStore(key, valueLoader, flight);
+            flight.future.complete(value);
+            return value;
+        } catch (Exception e) {
+            flight.future.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object await(Flight flight, Object key, Callable<?> valueLoader) {
+        try {
+            return flight.future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 먼저 로딩한 요청이 너무 오래 걸리면 직접 로딩 (캐시 저장은 먼저 시작한 요청에 맡김)
+            log.warn("⚠️ 캐시 로딩 대기 시간 초과 ({}:{}) - 직접 조회", getName(), key);
+            try {
+                return valueLoader.call();
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * 만료 전 백그라운드 갱신 (이미 로딩 중이거나 갱신 풀이 가득 차면 건너뜀)
+     */
+    private void refreshInBackground(Object key, Callable<?> valueLoader) {
+        Flight flight = new Flight();
+        if (inFlight.putIfAbsent(key, flight) != null) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    flight.future.complete(loadAndStore(key, valueLoader, flight));
+                    log.debug("🔄 캐시 조기 갱신: {}:{}", getName(), key);
+                } catch (Exception e) {
+                    flight.future.completeExceptionally(e);
+                    log.warn("⚠️ 캐시 조기 갱신 실패 ({}:{}): {}", getName(), key, e.getMessage());
+                } finally {
+                    inFlight.remove(key, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private Object loadAndStore(Object key, Callable<?> valueLoader, Flight flight) throws Exception {
+        long start = System.nanoTime();
+        Object value = valueLoader.call();
+        long loadNanos = System.nanoTime() - start;
+        long loadMillis = TimeUnit.NANOSECONDS.toMillis(loadNanos);
+        metrics.recordLoad(getName(), loadNanos);
+
+        if (!flight.invalidated) {
+            delegate.put(key, wrap(value, loadMillis));
+            recentLoads.put(String.valueOf(key), Boolean.TRUE);
+            // 확인과 저장 사이에 삭제가 끝났으면 방금 저장한 수정 전 값을 지움
+            // (삭제가 재확인보다 늦으면 그 삭제가 저장한 값을 지움)
+            if (flight.invalidated) {
+                delegate.evict(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 확률적 조기 갱신 (XFetch)
+     *
+     * 만료까지 남은 시간이 짧을수록, 값을 만드는 데 오래 걸릴수록 갱신 확률이 높아짐
+     * → 자주 읽히는 키는 만료 직전에 거의 확실히 한 번 갱신되고, 가끔 읽히는 키는 그냥 만료됨
+     */
+    private boolean shouldRefreshEarly(CachedValue entry) {
+        if (beta <= 0) {
+            return false; // 조기 갱신 끔 (만료 전까지 같은 값 유지)
+        }
+        long delta = Math.max(entry.getLoadMillis(), minDeltaMillis);
+        double gap = -delta * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= entry.getExpiresAtMillis();
+    }
+
+    private CachedValue wrap(Object value, long loadMillis) {
+        return new CachedValue(value, System.currentTimeMillis() + ttl.toMillis(), loadMillis);
+    }
+
+    // 봉투 도입 전에 저장된 값은 그대로 반환
+    private Object unwrap(Object raw) {
+        return raw instanceof CachedValue entry ? entry.getValue() : raw;
+    }
+
+    private void invalidateFlight(Object key) {
+        Flight flight = inFlight.get(key);
+        if (flight != null) {
+            flight.invalidated = true;
+        }
+    }
+
+    private static class Flight {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+}
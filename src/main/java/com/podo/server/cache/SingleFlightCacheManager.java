@@ -0,0 +1,83 @@
+package com.podo.server.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 캐시 쇄도(stampede) 방지 캐시 매니저
+ *
+ * 🎯 목적: 인기 여행의 일정 캐시가 만료/삭제되는 순간 동시 조회가 모두 DB로 몰리지 않도록 함
+ *
+ * 📌 동작 방식:
+ * 1. 단일 로딩(single-flight): 같은 키의 캐시 미스는 서버당 한 요청만 DB를 조회하고 나머지는 결과를 기다림
+ * 2. 확률적 조기 갱신: 자주 읽히는 키는 TTL이 끝나기 전에 백그라운드에서 미리 다시 로딩
+ *
+ * 🔒 조기 갱신 제외 캐시(noEarlyRefreshCacheNames): 단일 로딩만 적용하고 만료 전까지 값을 바꾸지 않음
+ *    - 예) routePreviews: 키가 입력 내용으로 정해지고, 다시 계산하면 미리보기와 다른 순서가 나올 수 있음
+ *
+ * ⚠️ 단일 로딩은 Cache.get(key, loader) 경로에서 동작
+ *    - ScheduleCacheService.getTrip() 같은 직접 호출
+ *    - @Cacheable은 sync = true 로 선언해야 적용됨
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final Map<String, Duration> ttls;
+    private final Duration defaultTtl;
+    private final Executor refreshExecutor;
+    private final double beta;
+    private final Set<String> noEarlyRefreshCacheNames;
+    private final long minDeltaMillis;
+    private final long waitTimeoutMillis;
+    private final CacheMetrics metrics;
+    private final Map<String, SingleFlightCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param ttls 캐시별 TTL (Redis 캐시 설정과 같아야 함, 없으면 defaultTtl)
+     * @param beta 조기 갱신 강도 (클수록 일찍 갱신, 0 = 조기 갱신 안 함)
+     * @param noEarlyRefreshCacheNames 조기 갱신을 끄는 캐시 (beta = 0으로 생성)
+     * @param minDeltaMillis 조기 갱신 계산에 쓰는 최소 로딩 시간 (로딩이 아주 빨라도 이 시간만큼은 여유를 둠)
+     * @param waitTimeoutMillis 다른 요청의 로딩을 기다리는 최대 시간
+     * @param metrics 로딩 시간 기록용 (cache.load.duration)
+     */
+    public SingleFlightCacheManager(CacheManager delegate, Map<String, Duration> ttls, Duration defaultTtl,
+                                    Executor refreshExecutor, double beta, Set<String> noEarlyRefreshCacheNames,
+                                    long minDeltaMillis, long waitTimeoutMillis, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.ttls = ttls;
+        this.defaultTtl = defaultTtl;
+        this.refreshExecutor = refreshExecutor;
+        this.beta = beta;
+        this.noEarlyRefreshCacheNames = noEarlyRefreshCacheNames;
+        this.minDeltaMillis = minDeltaMillis;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        SingleFlightCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> new SingleFlightCache(target, ttls.getOrDefault(key, defaultTtl),
+                refreshExecutor, noEarlyRefreshCacheNames.contains(key) ? 0 : beta, minDeltaMillis, waitTimeoutMillis,
+                metrics));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -0,0 +1,132 @@
+package com.podo.server.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * L1(Caffeine) + L2(Redis) 캐시 (TwoLevelCacheManager에서 생성)
+ *
+ * - 조회: L1 → 없으면 L2 → L2에 있으면 L1에 채움 (loader가 있으면 L2의 get(key, loader)로 위임)
+ * - 저장/삭제: L2 반영 + 내 L1 반영 + 다른 서버 L1 삭제 요청(발행)
+ *
+ * 💡 L1 키는 Redis 키와 같은 문자열 (Pub/Sub 메시지로 그대로 전달하기 위해)
+ * 📊 L1 적중은 Redis까지 가지 않으므로 L1 통계를 따로 수집 (cache.l1.gets, CacheMetrics)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache l2;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> l1;
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    public TwoLevelCache(Cache l2, long l1MaxSize, Duration l1Ttl, BiConsumer<String, String> invalidationPublisher) {
+        this.l2 = l2;
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(l1MaxSize)
+                .expireAfterWrite(l1Ttl)
+                .recordStats()
+                .build();
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return l2.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String l1Key = String.valueOf(key);
+        ValueWrapper local = l1.getIfPresent(l1Key);
+        if (local != null) {
+            return local;
+        }
+
+        ValueWrapper remote = l2.get(key);
+        if (remote != null) {
+            l1.put(l1Key, new SimpleValueWrapper(remote.get()));
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String l1Key = String.valueOf(key);
+        ValueWrapper local = l1.getIfPresent(l1Key);
+        if (local != null) {
+            return (T) local.get();
+        }
+
+        // L1 미스: L2에 로딩을 맡김 (L2 쪽 단일 로딩/조기 갱신 적용) → 결과만 L1에 채움
+        T value = l2.get(key, valueLoader);
+        l1.put(l1Key, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        l2.put(key, value);
+        l1.put(String.valueOf(key), new SimpleValueWrapper(value));
+        invalidationPublisher.accept(getName(), String.valueOf(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        l2.evict(key);
+        l1.invalidate(String.valueOf(key));
+        invalidationPublisher.accept(getName(), String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        invalidationPublisher.accept(getName(), TwoLevelCacheManager.CLEAR_ALL_KEY);
+    }
+
+    // L1 적중/미스 통계 (지표 등록용)
+    CacheStats l1Stats() {
+        return l1.stats();
+    }
+
+    // Pub/Sub 수신 시: 내 L1에서만 삭제 (L2는 보낸 서버가 이미 처리)
+    // + 이 서버에서 진행 중/방금 끝난 L2 로딩이 수정 전 값을 다시 저장하지 않도록 알림
+    void evictLocal(String key) {
+        l1.invalidate(key);
+        if (l2 instanceof SingleFlightCache singleFlight) {
+            singleFlight.onRemoteInvalidate(key);
+        }
+    }
+
+    void clearLocal() {
+        l1.invalidateAll();
+        if (l2 instanceof SingleFlightCache singleFlight) {
+            singleFlight.onRemoteClear();
+        }
+    }
+}
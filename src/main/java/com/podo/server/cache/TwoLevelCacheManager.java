@@ -0,0 +1,107 @@
+package com.podo.server.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 2단계 캐시 매니저 (L1: 서버 메모리, L2: Redis)
+ *
+ * 🎯 목적: 가장 많이 호출되는 조회(일정)를 Redis 왕복 + JSON 역직렬화 없이 서버 메모리에서 바로 응답
+ *
+ * 📌 동작 방식:
+ * - l1CacheNames에 포함된 캐시만 TwoLevelCache로 감쌈 (나머지는 delegate 그대로)
+ * - 수정/삭제(put, evict, clear) 시 "cache:invalidate" 채널로 발행 → 다른 서버들의 L1에서 해당 키 삭제
+ * - 자기 서버가 보낸 메시지는 무시 (nodeId로 구분)
+ * - Pub/Sub 메시지를 놓쳐도 L1 TTL(짧게 설정)이 지나면 자연스럽게 L2에서 다시 읽음
+ *
+ * 📨 메시지 형식: "{nodeId}|{cacheName}|{key}" (key가 "*"면 캐시 전체 삭제)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    static final String INVALIDATE_CHANNEL = "cache:invalidate";
+    static final String CLEAR_ALL_KEY = "*";
+
+    private final CacheManager delegate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Set<String> l1CacheNames;
+    private final long l1MaxSize;
+    private final Duration l1Ttl;
+    private final CacheMetrics cacheMetrics;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager delegate, RedisTemplate<String, String> redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                Set<String> l1CacheNames, long l1MaxSize, Duration l1Ttl,
+                                CacheMetrics cacheMetrics) {
+        this.delegate = delegate;
+        this.redisTemplate = redisTemplate;
+        this.l1CacheNames = l1CacheNames;
+        this.l1MaxSize = l1MaxSize;
+        this.l1Ttl = l1Ttl;
+        this.cacheMetrics = cacheMetrics;
+
+        listenerContainer.addMessageListener((message, pattern) ->
+                onInvalidate(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(INVALIDATE_CHANNEL));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache target = delegate.getCache(name);
+        if (target == null || !l1CacheNames.contains(name)) {
+            return target;
+        }
+        return caches.computeIfAbsent(name, key -> {
+            TwoLevelCache cache = new TwoLevelCache(target, l1MaxSize, l1Ttl, this::publish);
+            cacheMetrics.bindL1Statistics(key, cache);
+            return cache;
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    // 다른 서버들에 L1 삭제 요청 (실패해도 L1 TTL이 지나면 정리됨)
+    private void publish(String cacheName, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATE_CHANNEL, nodeId + "|" + cacheName + "|" + key);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ L1 캐시 무효화 발행 실패 ({}:{}) - L1 TTL 후 정리됨: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    private void onInvalidate(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return; // 형식 오류 또는 내가 보낸 메시지
+        }
+
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache == null) {
+            return; // 이 서버에는 아직 L1이 없음
+        }
+
+        if (CLEAR_ALL_KEY.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+        log.debug("🧹 L1 캐시 삭제 (Pub/Sub): {}:{}", parts[1], parts[2]);
+    }
+}
@@ -3,10 +3,10 @@ package com.podo.server.config;
 import com.podo.server.entity.Role;
 import com.podo.server.entity.Users;
 import com.podo.server.repository.UserRepository;
+import com.podo.server.service.PasswordHashService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
 /**
@@ -20,7 +20,7 @@ import org.springframework.stereotype.Component;
 public class DataLoader implements CommandLineRunner {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService;
 
     @Override
     public void run(String... args) throws Exception {
@@ -30,7 +30,7 @@ public class DataLoader implements CommandLineRunner {
         if (userRepository.findByEmail(adminEmail).isEmpty()) {
             Users admin = new Users(
                 adminEmail,
-                passwordEncoder.encode("admin1234"), // Password: admin1234
+                passwordHashService.encode("admin1234"), // Password: admin1234
                 "Admin",
                 Role.ADMIN
             );
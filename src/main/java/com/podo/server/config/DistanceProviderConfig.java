@@ -0,0 +1,65 @@
+package com.podo.server.config;
+
+import com.podo.server.repository.RoadDistanceRepository;
+import com.podo.server.route.DistanceProvider;
+import com.podo.server.route.HaversineDistanceProvider;
+import com.podo.server.route.KakaoRoadDistanceProvider;
+import com.podo.server.route.StubDistanceProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 동선 최적화 거리 공급자 선택
+ *
+ * 📌 route.distance.provider:
+ * - haversine (기본): 직선 거리
+ * - kakao: 카카오 길찾기 도로 거리/소요 시간 (kakao.rest.api.key 필요, 결과는 road_distance 테이블에 저장)
+ * - stub: 외부 호출 없는 격자 도로 흉내 (로컬 개발/테스트용)
+ */
+@Slf4j
+@Configuration
+public class DistanceProviderConfig {
+
+    @Bean
+    public DistanceProvider distanceProvider(
+            @Value("${route.distance.provider:haversine}") String provider,
+            @Value("${route.distance.kakao.metric:duration}") String metric,
+            @Value("${route.distance.kakao.max-calls-per-matrix:200}") int maxCallsPerMatrix,
+            @Value("${route.distance.kakao.timeout-millis:1000}") int timeoutMillis,
+            @Value("${route.distance.kakao.max-fetch-millis:2000}") long maxFetchMillis,
+            @Value("${kakao.rest.api.key:}") String kakaoRestApiKey,
+            RoadDistanceRepository roadDistanceRepository,
+            PlatformTransactionManager transactionManager) {
+        log.info("🗺️ 동선 최적화 거리 공급자: {}", provider);
+
+        return switch (provider.toLowerCase()) {
+            case HaversineDistanceProvider.NAME -> new HaversineDistanceProvider();
+            case StubDistanceProvider.NAME -> new StubDistanceProvider();
+            case KakaoRoadDistanceProvider.NAME -> {
+                if (kakaoRestApiKey.isBlank()) {
+                    throw new IllegalStateException("route.distance.provider=kakao 는 kakao.rest.api.key 설정이 필요합니다.");
+                }
+                // 도로 거리 저장은 최적화 트랜잭션과 분리 (저장 실패가 최적화를 롤백하지 않도록)
+                TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+                requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+                SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+                requestFactory.setConnectTimeout(timeoutMillis);
+                requestFactory.setReadTimeout(timeoutMillis);
+
+                yield new KakaoRoadDistanceProvider(roadDistanceRepository, requiresNew,
+                        new RestTemplate(requestFactory),
+                        kakaoRestApiKey, KakaoRoadDistanceProvider.Metric.valueOf(metric.toUpperCase()),
+                        maxCallsPerMatrix, maxFetchMillis);
+            }
+            default -> throw new IllegalArgumentException("알 수 없는 route.distance.provider: " + provider);
+        };
+    }
+}
@@ -0,0 +1,116 @@
+package com.podo.server.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 전용 스레드 풀 설정 클래스
+ *
+ * 🎯 목적: CPU를 많이 쓰는 작업을 Tomcat 요청 스레드와 분리하여
+ *         무거운 작업이 몰려도 다른 API 응답이 느려지지 않도록 함
+ *
+ * 📦 풀 목록:
+ * - passwordHashExecutor: BCrypt 비밀번호 해싱/검증 (PasswordHashService)
+ * - cacheRefreshExecutor: 만료가 가까운 캐시 값 백그라운드 갱신 (SingleFlightCache)
+ * - routeOptimizationExecutor: 비동기 동선 최적화 작업 (RouteOptimizationJobService)
+ * - routeSolverPool: 여행 전체 최적화 시 일차별 동선 병렬 계산 (RouteService)
+ *
+ * 🧵 요청 처리는 Tomcat 플랫폼 스레드 그대로 (가상 스레드 전환 효과 없음 - VirtualThreadBenchmark 측정 결과 참고)
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * BCrypt 전용 스레드 풀
+     *
+     * 📌 설정값:
+     * - security.password-hash.pool-size: 스레드 수 (기본값: CPU 코어 수)
+     * - security.password-hash.queue-capacity: 대기열 크기 (가득 차면 즉시 거절)
+     *
+     * 💡 AbortPolicy: 대기열이 가득 차면 RejectedExecutionException → 503 응답 (요청 스레드를 붙잡지 않음)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashExecutor(
+            @Value("${security.password-hash.pool-size:0}") int poolSize,
+            @Value("${security.password-hash.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bcrypt-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 캐시 조기 갱신 전용 스레드 풀
+     *
+     * 📌 설정값:
+     * - cache.refresh.pool-size: 스레드 수 (기본값: 2)
+     * - cache.refresh.queue-capacity: 대기열 크기
+     *
+     * 💡 대기열이 가득 차면 갱신을 건너뜀 (조기 갱신은 선택 사항 - 못 하면 만료 후 단일 로딩으로 처리)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(
+            @Value("${cache.refresh.pool-size:2}") int poolSize,
+            @Value("${cache.refresh.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비동기 동선 최적화 작업 전용 스레드 풀
+     *
+     * 📌 설정값:
+     * - route.optimization.pool-size: 동시에 실행하는 최적화 작업 수 (기본값: 2)
+     * - route.optimization.queue-capacity: 대기열 크기 (가득 차면 즉시 거절 → 503)
+     */
+    @Bean
+    public ThreadPoolTaskExecutor routeOptimizationExecutor(
+            @Value("${route.optimization.pool-size:2}") int poolSize,
+            @Value("${route.optimization.queue-capacity:50}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("route-opt-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일차별 동선 계산 전용 ForkJoin 풀
+     *
+     * 📌 설정값:
+     * - route.trip.parallelism: 동시에 계산하는 일차 수 (기본값: CPU 코어 수)
+     *
+     * 💡 공용 풀(ForkJoinPool.commonPool)을 쓰지 않음 → parallel stream 등 다른 작업과 CPU를 나눠 쓰지 않도록 분리
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool routeSolverPool(@Value("${route.trip.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool.ForkJoinWorkerThreadFactory factory = pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("route-solver-" + thread.getPoolIndex());
+            return thread;
+        };
+        return new ForkJoinPool(threads, factory, null, false);
+    }
+}
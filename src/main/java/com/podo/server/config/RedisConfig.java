@@ -1,21 +1,34 @@
 package com.podo.server.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.podo.server.cache.CacheMetrics;
+import com.podo.server.cache.CacheSerializers;
+import com.podo.server.cache.MeteredRedisCacheWriter;
+import com.podo.server.cache.ResilientCacheManager;
+import com.podo.server.cache.SingleFlightCacheManager;
+import com.podo.server.cache.TwoLevelCacheManager;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /**
  * Redis 캐시 설정 클래스
@@ -27,6 +40,15 @@ import java.time.Duration;
  * - schedules: 여행 일정 (30분 캐싱)
  *
  * ⚠️ 주의: Redis가 설치되지 않은 경우 application.properties에서 spring.cache.type=simple로 설정
+ * 🛡️ Redis 장애 시: 서킷 브레이커(redisCircuitBreaker)가 열리고 캐시는 DB 조회로 대체됨
+ * ⚡ 2단계 캐시: cache.l1.cache-names 에 지정된 캐시(기본: schedules)는 서버 메모리(L1)를 먼저 조회
+ * 🚦 쇄도 방지: 모든 캐시에 키별 단일 로딩 + 만료 전 확률적 조기 갱신 적용 (cache.early-refresh.*)
+ *    - routePreviews는 조기 갱신 제외 (미리보기 후 저장할 때 같은 순서를 재사용해야 하므로)
+ * 📊 지표: 캐시별 적중/미스(L1/Redis)/저장/삭제, 로딩 시간, 저장 크기 → /actuator/metrics/cache.* (CacheMetrics)
+ *
+ * 🧱 캐시 매니저 구성 (바깥 → 안쪽):
+ *    TwoLevelCacheManager(L1) → SingleFlightCacheManager(쇄도 방지)
+ *      → ResilientCacheManager(서킷 브레이커) → RedisCacheManager(L2)
  */
 @Configuration
 @EnableCaching
@@ -34,18 +56,33 @@ public class RedisConfig {
 
     /**
      * Redis 캐시 매니저 설정
-     * Key: String, Value: JSON (Jackson 직렬화)
+     * Key: String, Value: Smile 바이너리 (1KB 넘으면 GZIP 압축) 또는 JSON - cache.codec 으로 선택
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // ObjectMapper 설정 (LocalDateTime 등 Java 8 시간 API 지원)
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory, CircuitBreaker redisCircuitBreaker,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                     @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${cache.l1.cache-names:schedules}") Set<String> l1CacheNames,
+                                     @Value("${cache.l1.max-size:10000}") long l1MaxSize,
+                                     @Value("${cache.l1.ttl-seconds:60}") long l1TtlSeconds,
+                                     @Value("${cache.codec:smile}") String cacheCodec,
+                                     @Value("${cache.compression-threshold-bytes:1024}") int compressionThresholdBytes,
+                                     @Value("${cache.early-refresh.beta:1.0}") double earlyRefreshBeta,
+                                     @Value("${cache.early-refresh.disabled-cache-names:routePreviews}") Set<String> noEarlyRefreshCacheNames,
+                                     @Value("${cache.early-refresh.min-delta-millis:30000}") long earlyRefreshMinDeltaMillis,
+                                     @Value("${cache.single-flight.wait-timeout-millis:5000}") long singleFlightWaitTimeoutMillis) {
+        // 값 직렬화기 (cache.codec: smile = 바이너리 + 압축, json = 기존 JSON)
+        RedisSerializer<Object> valueSerializer = CacheSerializers.forCodec(cacheCodec, compressionThresholdBytes);
 
-        // JSON 직렬화기
-        GenericJackson2JsonRedisSerializer jsonSerializer =
-            new GenericJackson2JsonRedisSerializer(objectMapper);
+        // 캐시별 TTL (Redis 설정과 조기 갱신 계산에 함께 사용)
+        Duration defaultTtl = Duration.ofMinutes(30);
+        Map<String, Duration> ttls = Map.of(
+            "currencyRates", Duration.ofHours(1), // 환율 정보: 1시간 캐싱
+            "schedules", Duration.ofMinutes(30),  // 여행 일정: 30분 캐싱 (기본값)
+            "routePreviews", Duration.ofMinutes(10) // 동선 계산 결과: 10분 캐싱 (좌표가 바뀌면 키가 바뀜)
+        );
 
         // 기본 캐시 설정 (TTL: 30분)
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -53,22 +90,55 @@ public class RedisConfig {
                 RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer())
             )
             .serializeValuesWith(
-                RedisSerializationContext.SerializationPair.fromSerializer(jsonSerializer)
+                RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer)
             )
-            .entryTtl(Duration.ofMinutes(30)); // 기본 TTL 30분
+            .entryTtl(defaultTtl); // 기본 TTL 30분
+
+        // 캐시별 지표 (적중/미스/저장/삭제, 로딩 시간, 저장 크기) → /actuator/metrics
+        CacheMetrics cacheMetrics = new CacheMetrics(meterRegistry);
+        RedisCacheWriter cacheWriter = new MeteredRedisCacheWriter(
+            RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), cacheMetrics);
 
-        // 캐시별 개별 설정
+        // 캐시별 개별 설정 (통계 수집 활성화)
         RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager
-            .builder(connectionFactory)
+            .builder(cacheWriter)
             .cacheDefaults(defaultConfig)
-            // 환율 정보: 1시간 캐싱
-            .withCacheConfiguration("currencyRates",
-                defaultConfig.entryTtl(Duration.ofHours(1)))
-            // 여행 일정: 30분 캐싱 (기본값)
-            .withCacheConfiguration("schedules",
-                defaultConfig.entryTtl(Duration.ofMinutes(30)));
-
-        return builder.build();
+            .enableStatistics();
+        ttls.forEach((name, ttl) -> builder.withCacheConfiguration(name, defaultConfig.entryTtl(ttl)));
+
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet(); // 캐시별 설정(TTL) 초기화 (빈으로 직접 등록하지 않으므로 수동 호출)
+
+        // 설정된 캐시는 시작 시점부터 지표 노출 (그 외 캐시는 처음 사용될 때 등록)
+        redisCacheManager.getCacheNames().forEach(name -> cacheMetrics.bindStatistics(name,
+            (RedisCacheWriter) redisCacheManager.getCache(name).getNativeCache()));
+
+        // Redis 장애 시 캐시 미스로 처리 → DB 조회 (fail-open)
+        CacheManager resilientCacheManager = new ResilientCacheManager(redisCacheManager, redisCircuitBreaker);
+
+        // 같은 키 동시 미스는 한 번만 로딩 + 자주 읽히는 키는 만료 전에 미리 갱신
+        CacheManager singleFlightCacheManager = new SingleFlightCacheManager(resilientCacheManager, ttls, defaultTtl,
+            cacheRefreshExecutor, earlyRefreshBeta, noEarlyRefreshCacheNames, earlyRefreshMinDeltaMillis,
+            singleFlightWaitTimeoutMillis, cacheMetrics);
+
+        // L1(서버 메모리) + L2(Redis) 2단계 캐시 - 수정 시 Pub/Sub으로 다른 서버 L1 삭제
+        return new TwoLevelCacheManager(singleFlightCacheManager, redisTemplate, redisMessageListenerContainer,
+            l1CacheNames, l1MaxSize, Duration.ofSeconds(l1TtlSeconds), cacheMetrics);
+    }
+
+    /**
+     * Redis 서킷 브레이커
+     *
+     * 🎯 목적: Redis 장애 시 매 요청마다 타임아웃을 기다리지 않고 바로 대체 경로로 전환
+     * - 캐시: ResilientCacheManager → DB 조회
+     * - 세션: SessionService → 서버 메모리 세션 저장소
+     *
+     * 📌 설정: resilience4j.circuitbreaker.instances.redis.* (application.properties)
+     * 📊 상태 확인: GET /actuator/circuitbreakers, /actuator/health
+     */
+    @Bean
+    public CircuitBreaker redisCircuitBreaker(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return circuitBreakerRegistry.circuitBreaker("redis");
     }
 
     /**
@@ -96,4 +166,20 @@ public class RedisConfig {
 
         return template;
     }
+
+    /**
+     * Redis Pub/Sub 리스너 컨테이너
+     *
+     * 🎯 목적: 서버가 여러 대일 때 로컬(메모리) 캐시 무효화 메시지를 주고받기 위한 구독 컨테이너
+     *
+     * 📌 사용처:
+     * - SessionService: "session:invalidate" 채널 (로그아웃 시 모든 서버의 세션 니어 캐시 삭제)
+     * - TwoLevelCacheManager: "cache:invalidate" 채널 (일정 수정 시 모든 서버의 L1 캐시 삭제)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
@@ -0,0 +1,55 @@
+package com.podo.server.config;
+
+import com.podo.server.route.Geohash;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 일정 geohash 컬럼 채우기 (기존 데이터용)
+ *
+ * 🎯 목적: geohash 컬럼이 생기기 전에 저장된 일정도 좌표 격자 조회에 포함되도록 함
+ *         (새로 저장/수정되는 일정은 Schedule의 @PrePersist/@PreUpdate가 계산)
+ *
+ * 📌 동작:
+ * 1. 좌표는 있는데 geohash가 비어 있는 행을 1,000건씩 조회
+ * 2. 자바에서 geohash 계산 후 JDBC 배치 UPDATE (버전 컬럼은 올리지 않음 - 내용 변경이 아니므로)
+ * 3. 더 이상 채울 행이 없으면 종료 (이미 채운 행은 건너뜀 → 재시작해도 안전)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ScheduleGeohashMigration {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void backfill() {
+        int total = 0;
+        while (true) {
+            List<Object[]> updates = jdbcTemplate.query(
+                    "SELECT id, x, y FROM schedule " +
+                    "WHERE geohash IS NULL AND x IS NOT NULL AND y IS NOT NULL AND x <> 0 AND y <> 0 LIMIT " + CHUNK_SIZE,
+                    (rs, rowNum) -> new Object[]{
+                            Geohash.encode(rs.getDouble("y"), rs.getDouble("x"), Geohash.MAX_PRECISION),
+                            rs.getLong("id")
+                    });
+            if (updates.isEmpty()) {
+                break;
+            }
+            jdbcTemplate.batchUpdate("UPDATE schedule SET geohash = ? WHERE id = ?", updates);
+            total += updates.size();
+        }
+        if (total > 0) {
+            log.info("📍 일정 geohash 채우기 완료: {}건", total);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.podo.server.config;
+
+import com.podo.server.entity.Schedule;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 ID 시퀀스 초기화
+ *
+ * 🎯 목적: IDENTITY → 시퀀스 방식으로 바꾼 뒤에도 기존 일정 ID와 겹치지 않도록
+ *         "schedule_seq" 테이블의 다음 값을 기존 최대 ID 뒤로 맞춤
+ *
+ * 💡 동작 시점: 스키마 생성(ddl-auto) 직후, 웹 요청을 받기 전 (이미 충분히 크면 아무것도 안 함)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ScheduleSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void alignSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM schedule", Long.class);
+        // pooled 방식은 읽은 값 기준으로 이전 구간의 ID를 사용하므로 할당 크기 2배만큼 여유를 둠
+        long nextVal = (maxId == null ? 0 : maxId) + 2L * Schedule.ID_ALLOCATION_SIZE;
+
+        // 시퀀스 테이블에 행이 없으면 만들고, 있으면 기존 최대 ID보다 작을 때만 올림
+        int updated = jdbcTemplate.update(
+                "INSERT INTO schedule_seq (next_val) SELECT ? FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM schedule_seq)",
+                nextVal);
+        updated += jdbcTemplate.update("UPDATE schedule_seq SET next_val = ? WHERE next_val < ?", nextVal, nextVal);
+        if (updated > 0) {
+            log.info("🔢 일정 ID 시퀀스 조정: next_val={} (기존 최대 ID={})", nextVal, maxId);
+        }
+    }
+}
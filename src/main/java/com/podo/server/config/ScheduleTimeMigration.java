@@ -0,0 +1,59 @@
+package com.podo.server.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일정 시간 컬럼 데이터 이전 (문자열 "time" → TIME 타입 "start_time")
+ *
+ * 🎯 목적: 예전 문자열 시간("9:00", "09:00")을 TIME 컬럼으로 옮겨서
+ *         (travel_id, day, start_time) 인덱스 순서대로 조회되도록 함
+ *
+ * 📌 동작:
+ * 1. 구버전 "time" 컬럼이 없으면 (새 DB) 아무것도 안 함
+ * 2. start_time이 비어 있고 "H:mm" / "HH:mm" 형식의 실제 시각(00:00~23:59)인 행만 변환 (이미 옮긴 행은 건너뜀)
+ *
+ * 💡 형식이 맞지 않는 값은 start_time을 비워 두고 경고 로그만 남김
+ *    (구버전 "time" 컬럼은 확인용으로 남겨 두며, 필요 없으면 직접 삭제)
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class ScheduleTimeMigration {
+
+    // 실제 있는 시각만 (0~23시, 0~59분) - "25:00", "9:75"처럼 형식만 맞는 값은 STR_TO_DATE가 NULL/오류이므로 변환 대상에서 제외하고 경고로 집계
+    private static final String TIME_PATTERN = "'^([01]?[0-9]|2[0-3]):[0-5][0-9]$'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        Integer legacyColumn = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = 'schedule' AND column_name = 'time'",
+                Integer.class);
+        if (legacyColumn == null || legacyColumn == 0) {
+            return;
+        }
+
+        int migrated = jdbcTemplate.update(
+                "UPDATE schedule SET start_time = STR_TO_DATE(`time`, '%H:%i') " +
+                "WHERE start_time IS NULL AND `time` REGEXP " + TIME_PATTERN);
+        if (migrated > 0) {
+            log.info("🕘 일정 시간 컬럼 이전 완료: {}건", migrated);
+        }
+
+        Integer invalid = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM schedule " +
+                "WHERE start_time IS NULL AND `time` IS NOT NULL AND `time` <> '' AND NOT (`time` REGEXP " + TIME_PATTERN + ")",
+                Integer.class);
+        if (invalid != null && invalid > 0) {
+            log.warn("⚠️ 시간 형식을 알 수 없어 이전하지 못한 일정: {}건", invalid);
+        }
+    }
+}
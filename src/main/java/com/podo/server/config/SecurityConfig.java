@@ -1,33 +1,58 @@
 package com.podo.server.config;
 
+import com.podo.server.security.JwtAuthenticationFilter;
+import com.podo.server.security.JwtUtil;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.io.IOException;
 import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // BCrypt 강도 (cost): 1 올릴 때마다 해싱 시간 2배 (벤치마크: ./gradlew jmh)
+    @Value("${security.bcrypt.strength:10}")
+    private int bcryptStrength;
+
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(); // 비밀번호 암호화 도구
+        return new BCryptPasswordEncoder(bcryptStrength); // 비밀번호 암호화 도구
     }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, JwtUtil jwtUtil) throws Exception {
         http
             .csrf(csrf -> csrf.disable()) // API 서버라 CSRF 보안 끄기
             .cors(cors -> cors.configurationSource(corsConfigurationSource())) // 리액트와 통신 허용
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // JWT 사용 → HTTP 세션 안 씀
+            // JWT 인증 필터: 요청당 한 번 토큰 검증 → SecurityContext에 JwtPrincipal 저장
+            .addFilterBefore(new JwtAuthenticationFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+            .exceptionHandling(ex -> ex
+                .authenticationEntryPoint((request, response, e) -> writeError(response,
+                    HttpServletResponse.SC_UNAUTHORIZED, "로그인이 필요합니다."))
+                .accessDeniedHandler((request, response, e) -> writeError(response,
+                    HttpServletResponse.SC_FORBIDDEN, "관리자 권한이 필요합니다."))
+            )
             .authorizeHttpRequests(auth -> auth
+                // 관리자 전용 경로 (토큰의 role 클레임으로 판단, DB 조회 없음)
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                // Actuator: 상태 확인(health)만 공개, 지표/서킷 브레이커 등은 관리자만 (캐시 적중률, Redis 응답 시간, JVM 정보 노출 방지)
+                .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // 인증 없이 접근 가능한 경로들
                 .requestMatchers("/api/auth/**", "/ws-stomp/**").permitAll() // 로그인, 회원가입, 소켓
                 .requestMatchers(
@@ -42,6 +67,13 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 인증/인가 실패 응답 (SessionInterceptor와 같은 JSON 형식)
+    private void writeError(HttpServletResponse response, int status, String message) throws IOException {
+        response.setStatus(status);
+        response.setContentType("application/json;charset=UTF-8");
+        response.getWriter().write("{\"error\": \"" + message + "\"}");
+    }
+
     // CORS 설정 (리액트 5173 포트 허용)
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
@@ -54,6 +54,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 .excludePathPatterns(
                         "/api/auth/login",    // 로그인은 세션 체크 안 함
                         "/api/auth/signup",   // 회원가입은 세션 체크 안 함
+                        "/api/auth/refresh",  // 토큰 재발급 (액세스 토큰이 만료된 상태로 호출됨)
                         "/swagger-ui/**",     // Swagger UI 제외
                         "/v3/api-docs/**"     // API 문서 제외
                 );
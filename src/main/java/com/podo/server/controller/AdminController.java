@@ -1,16 +1,15 @@
 package com.podo.server.controller;
 
 import com.podo.server.entity.Role;
-import com.podo.server.entity.Users;
 import com.podo.server.repository.TravelRepository;
 import com.podo.server.repository.UserRepository;
-import com.podo.server.security.JwtUtil;
+import com.podo.server.service.CacheInspectionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.LocalDate;
@@ -29,37 +28,17 @@ public class AdminController {
 
     private final TravelRepository travelRepository;
     private final UserRepository userRepository;
-    private final JwtUtil jwtUtil;
+    private final CacheInspectionService cacheInspectionService;
 
     /**
      * 관리자 대시보드 통계 데이터 조회
      * GET /api/admin/stats
+     *
+     * 🔐 관리자 권한은 SecurityConfig(/api/admin/** → ROLE_ADMIN)에서 토큰 클레임으로 확인 (DB 조회 없음)
      */
     @GetMapping("/stats")
-    public ResponseEntity<?> getAdminStats(@RequestHeader("Authorization") String authHeader) {
+    public ResponseEntity<?> getAdminStats() {
         try {
-            // JWT 토큰에서 "Bearer " 제거
-            String token = authHeader.replace("Bearer ", "");
-
-            // 토큰 유효성 검사
-            if (!jwtUtil.validateToken(token)) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(Map.of("error", "유효하지 않은 토큰입니다."));
-            }
-
-            // 토큰에서 이메일 추출
-            String email = jwtUtil.getEmail(token);
-
-            // 사용자 조회
-            Users user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-            // 관리자 권한 확인
-            if (user.getRole() != Role.ADMIN) {
-                return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                    .body(Map.of("error", "관리자 권한이 필요합니다."));
-            }
-
             // 전체 회원 수 (Users 테이블)
             long totalUsers = userRepository.count();
 
@@ -118,4 +97,25 @@ public class AdminController {
                 .body(Map.of("error", "서버 오류가 발생했습니다: " + e.getMessage()));
         }
     }
+
+    /**
+     * 캐시 값 크기 상위 키 조회 (Redis 용량 산정 / TTL 조정용)
+     * GET /api/admin/cache/top-keys?cache=schedules&limit=20
+     * (등록된 캐시 이름만 허용, limit은 1 ~ 100 → 잘못된 값은 400)
+     *
+     * 📊 적중률/로딩 시간 등 캐시 지표는 /actuator/metrics/cache.* 에서 확인
+     */
+    @GetMapping("/cache/top-keys")
+    public ResponseEntity<?> getCacheTopKeys(@RequestParam(defaultValue = "schedules") String cache,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(cacheInspectionService.topKeysBySize(cache, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("error", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(Map.of("error", "캐시 정보를 조회할 수 없습니다: " + e.getMessage()));
+        }
+    }
 }
@@ -1,11 +1,15 @@
 package com.podo.server.controller;
 
 import com.podo.server.entity.Users;
+import com.podo.server.exception.PasswordHashBusyException;
+import com.podo.server.security.JwtPrincipal;
 import com.podo.server.service.AuthService;
+import com.podo.server.service.RefreshTokenService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
@@ -31,7 +35,7 @@ public class AuthController {
     public ResponseEntity<?> login(@RequestBody Map<String, String> data) {
         try {
             Users user = authService.loginAndGetUser(data.get("email"), data.get("password"));
-            String token = authService.generateToken(user.getEmail()); // ✨ Redis 세션 자동 저장됨
+            String token = authService.generateToken(user.getEmail(), user.getRole()); // ✨ Redis 세션 자동 저장됨
 
             Map<String, String> response = new HashMap<>();
             response.put("token", token);
@@ -39,24 +43,49 @@ public class AuthController {
             response.put("nickname", user.getNickname());
             response.put("role", user.getRole().name()); // 권한 정보 추가
 
+            // 무상태 모드: 짧은 액세스 토큰 + 리프레시 토큰 (만료 전 /api/auth/refresh 로 교체)
+            if (authService.isStatelessMode()) {
+                response.put("refreshToken", authService.issueRefreshToken(user.getEmail(), user.getRole()));
+            }
+
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             log.warn("Login failed: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        } catch (PasswordHashBusyException e) {
+            log.warn("Login rejected (hash pool busy): {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
         } catch (Exception e) {
             log.error("Login error: {}", e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("로그인 중 오류가 발생했습니다.");
         }
     }
 
-    // 3. 로그아웃 (Redis 세션 삭제)
+    // 3. 토큰 재발급 (무상태 모드) - 리프레시 토큰은 1회용, 새 액세스/리프레시 토큰 쌍 반환
+    @PostMapping("/refresh")
+    public ResponseEntity<?> refresh(@RequestBody Map<String, String> data) {
+        try {
+            RefreshTokenService.Rotation rotation = authService.refresh(data.get("refreshToken"));
+            String token = authService.generateToken(rotation.getEmail(), rotation.getRole());
+
+            Map<String, String> response = new HashMap<>();
+            response.put("token", token);
+            response.put("refreshToken", rotation.getRefreshToken());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("Token refresh failed: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage());
+        }
+    }
+
+    // 4. 로그아웃 (Redis 세션 삭제) - 토큰은 JwtAuthenticationFilter에서 이미 검증됨
     @PostMapping("/logout")
-    public String logout(@RequestHeader("Authorization") String authHeader) {
-        // "Bearer {token}" 형식에서 토큰 추출
-        String token = authHeader.replace("Bearer ", "");
-        String email = authService.getEmailFromToken(token);
+    public ResponseEntity<String> logout(@AuthenticationPrincipal JwtPrincipal principal) {
+        if (principal == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("유효하지 않은 토큰입니다.");
+        }
 
-        authService.logout(email); // Redis 세션 삭제
-        return "로그아웃 성공!";
+        authService.logout(principal.getEmail()); // Redis 세션 삭제
+        return ResponseEntity.ok("로그아웃 성공!");
     }
 }
\ No newline at end of file
@@ -1,18 +1,35 @@
 package com.podo.server.controller;
 
+import com.podo.server.dto.NearbyStopResponse;
+import com.podo.server.dto.PopularPlaceResponse;
+import com.podo.server.dto.RouteJobResponse;
+import com.podo.server.dto.RoutePreviewResponse;
+import com.podo.server.dto.ScheduleBulkRequest;
+import com.podo.server.dto.ScheduleBulkResponse;
+import com.podo.server.dto.ScheduleOptimizedEvent;
 import com.podo.server.dto.ScheduleRequest;
+import com.podo.server.dto.TripOptimizationResponse;
 import com.podo.server.entity.Schedule;
+import com.podo.server.route.RouteOptions;
+import com.podo.server.service.RouteOptimizationJobService;
 import com.podo.server.service.RouteService;
+import com.podo.server.service.ScheduleGeoService;
 import com.podo.server.service.ScheduleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Tag(name = "일정 관리", description = "여행 일정 CRUD 및 최적화 API (Redis 캐싱 적용)")
@@ -24,11 +41,23 @@ public class ScheduleController {
 
     private final ScheduleService scheduleService;
     private final RouteService routeService;
+    private final RouteOptimizationJobService routeOptimizationJobService;
+    private final ScheduleGeoService scheduleGeoService;
     private final SimpMessagingTemplate messagingTemplate;
 
+    @Operation(
+        summary = "여행 전체 일정 조회 (캐싱 적용)",
+        description = "여행의 모든 날짜 일정을 한 번에 조회합니다. 일차별로 묶어 반환하며 여행당 캐시 1개로 30분간 유지됩니다."
+    )
+    @GetMapping("/{travelId}")
+    public Map<Integer, List<Schedule>> getTripSchedules(
+        @Parameter(description = "여행 ID", required = true) @PathVariable Long travelId) {
+        return scheduleService.getTripSchedules(travelId);
+    }
+
     @Operation(
         summary = "일정 조회 (캐싱 적용)",
-        description = "특정 여행의 특정 날짜 일정을 조회합니다. 캐시에서 30분간 유지되어 빠른 응답을 제공합니다."
+        description = "특정 여행의 특정 날짜 일정을 조회합니다. 여행 전체 일정 캐시에서 해당 날짜만 잘라서 반환합니다."
     )
     @GetMapping("/{travelId}/{day}")
     public List<Schedule> getSchedules(
@@ -39,7 +68,7 @@ public class ScheduleController {
 
     @Operation(
         summary = "일정 생성 (캐시 무효화)",
-        description = "새로운 일정을 생성합니다. 생성 시 해당 날짜의 캐시가 자동으로 삭제됩니다."
+        description = "새로운 일정을 생성합니다. 생성 시 해당 여행의 일정 캐시가 자동으로 삭제됩니다."
     )
     @PostMapping("/{travelId}")
     public Schedule createSchedule(
@@ -48,9 +77,20 @@ public class ScheduleController {
         return scheduleService.createSchedule(travelId, request);
     }
 
+    @Operation(
+        summary = "일정 일괄 변경 (캐시 무효화)",
+        description = "여러 일정의 생성/수정/순서 변경/삭제를 한 트랜잭션으로 처리합니다. 수정 항목에서 비워 둔 필드는 기존 값을 유지합니다."
+    )
+    @PostMapping("/{travelId}/bulk")
+    public ScheduleBulkResponse bulkUpdateSchedules(
+        @Parameter(description = "여행 ID", required = true) @PathVariable Long travelId,
+        @RequestBody ScheduleBulkRequest request) {
+        return scheduleService.bulkUpdate(travelId, request);
+    }
+
     @Operation(
         summary = "일정 수정 (캐시 무효화)",
-        description = "기존 일정을 수정합니다. 수정 시 모든 일정 캐시가 삭제됩니다."
+        description = "기존 일정을 수정합니다. 수정 시 해당 여행의 일정 캐시만 삭제됩니다."
     )
     @PutMapping("/{scheduleId}")
     public Schedule updateSchedule(
@@ -61,7 +101,7 @@ public class ScheduleController {
 
     @Operation(
         summary = "일정 삭제 (캐시 무효화)",
-        description = "일정을 삭제합니다. 삭제 시 모든 일정 캐시가 삭제됩니다."
+        description = "일정을 삭제합니다. 삭제 시 해당 여행의 일정 캐시만 삭제됩니다."
     )
     @DeleteMapping("/{scheduleId}")
     public void deleteSchedule(
@@ -70,18 +110,107 @@ public class ScheduleController {
     }
 
     @Operation(
-        summary = "동선 최적화",
-        description = "특정 날짜의 일정을 최적 경로로 재배치합니다 (TSP 알고리즘 적용)"
+        summary = "동선 최적화 (비동기 작업)",
+        description = "특정 날짜의 일정을 최적 경로로 재배치하는 작업을 등록합니다 (TSP 알고리즘 적용). "
+            + "12곳 이하는 정확해(Held-Karp), 그 이상은 탐욕법 + 2-opt / Or-opt로 계산합니다. "
+            + "같은 날 작업이 진행 중이면 새로 만들지 않고 그 작업에 합류하며(joined=true, 출발/도착/왕복 조건이 다르면 409), "
+            + "완료되면 /topic/travel/{travelId}로 새 방문 순서와 최적화 전/후 이동 거리(km)를 전송합니다."
     )
     @PostMapping("/{travelId}/{day}/optimize")
-    public void optimizeSchedule(
+    public ResponseEntity<RouteJobResponse> optimizeSchedule(
         @Parameter(description = "여행 ID", required = true) @PathVariable Long travelId,
-        @Parameter(description = "여행 일차", required = true) @PathVariable int day) {
-        log.info("Optimizing schedule for travelId: {}, day: {}", travelId, day);
-        routeService.optimizeRoute(travelId, day);
+        @Parameter(description = "여행 일차", required = true) @PathVariable int day,
+        @Parameter(description = "출발 일정 ID (기본: 가장 이른 일정)") @RequestParam(required = false) Long startScheduleId,
+        @Parameter(description = "마지막 일정 ID (예: 숙소, 기본: 자유)") @RequestParam(required = false) Long endScheduleId,
+        @Parameter(description = "출발지로 돌아오는 왕복 경로") @RequestParam(defaultValue = "false") boolean roundTrip) {
+        log.info("Submitting schedule optimization for travelId: {}, day: {}", travelId, day);
+        RouteJobResponse job = routeOptimizationJobService.submit(travelId, day,
+            new RouteOptions(startScheduleId, endScheduleId, roundTrip));
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @Operation(
+        summary = "동선 최적화 미리보기",
+        description = "저장하지 않고 최적화했을 때의 방문 순서, 구간별 거리, 전체 거리(km)를 미리 보여줍니다. "
+            + "같은 좌표/조건의 계산 결과는 10분간 캐시되어, 다시 미리보거나 실제로 최적화할 때 같은 순서를 재사용합니다."
+    )
+    @GetMapping("/{travelId}/{day}/optimize/preview")
+    public RoutePreviewResponse previewOptimization(
+        @Parameter(description = "여행 ID", required = true) @PathVariable Long travelId,
+        @Parameter(description = "여행 일차", required = true) @PathVariable int day,
+        @Parameter(description = "출발 일정 ID (기본: 가장 이른 일정)") @RequestParam(required = false) Long startScheduleId,
+        @Parameter(description = "마지막 일정 ID (예: 숙소, 기본: 자유)") @RequestParam(required = false) Long endScheduleId,
+        @Parameter(description = "출발지로 돌아오는 왕복 경로") @RequestParam(defaultValue = "false") boolean roundTrip) {
+        return routeService.previewRoute(travelId, day, new RouteOptions(startScheduleId, endScheduleId, roundTrip));
+    }
+
+    @Operation(
+        summary = "동선 최적화 작업 조회",
+        description = "작업 상태(QUEUED / RUNNING / COMPLETED / FAILED), 진행률(0~100), 완료 시 결과를 조회합니다. "
+            + "완료된 작업은 일정 시간(기본 10분)이 지나면 404입니다."
+    )
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<RouteJobResponse> getOptimizationJob(
+        @Parameter(description = "작업 ID", required = true) @PathVariable String jobId) {
+        return routeOptimizationJobService.find(jobId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
 
-        // Send WebSocket notification to refresh schedules
-        messagingTemplate.convertAndSend("/topic/travel/" + travelId, "SCHEDULE_OPTIMIZED");
-        log.debug("WebSocket notification sent for schedule optimization");
+    @Operation(
+        summary = "여행 전체 동선 최적화",
+        description = "좌표가 있는 모든 일정을 가까운 곳끼리 일차별로 다시 나눈 뒤(하루 최대 일정 수 제한), "
+            + "일차별 방문 순서를 병렬로 계산해서 한 번에 저장합니다. 좌표가 없는 일정은 원래 날짜에 남습니다."
+    )
+    @PostMapping("/{travelId}/optimize")
+    public TripOptimizationResponse optimizeTrip(
+        @Parameter(description = "여행 ID", required = true) @PathVariable Long travelId,
+        @Parameter(description = "하루 최대 일정 수 (기본: 설정값, 부족하면 자동으로 늘림)") @RequestParam(required = false) Integer maxStopsPerDay) {
+        log.info("Optimizing whole trip for travelId: {}", travelId);
+        TripOptimizationResponse result = routeService.optimizeTrip(travelId, maxStopsPerDay);
+
+        messagingTemplate.convertAndSend("/topic/travel/" + travelId, ScheduleOptimizedEvent.tripCompleted(travelId, result));
+        return result;
+    }
+
+    @Operation(
+        summary = "근처 일정 조회",
+        description = "여행 안에서 주어진 지점(위도/경도) 반경 안의 일정을 가까운 순으로 반환합니다 (geohash 타일 사용, 최대 반경 20km)."
+    )
+    @GetMapping("/{travelId}/nearby")
+    public List<NearbyStopResponse> getNearbySchedules(
+        @Parameter(description = "여행 ID", required = true) @PathVariable Long travelId,
+        @Parameter(description = "위도", required = true) @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+        @Parameter(description = "경도", required = true) @RequestParam @DecimalMin("-180") @DecimalMax("180") double lon,
+        @Parameter(description = "반경 (km)") @RequestParam(defaultValue = "1") @DecimalMin(value = "0", inclusive = false) double radiusKm,
+        @Parameter(description = "최대 개수 (1~100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return scheduleGeoService.nearby(travelId, lat, lon, radiusKm, limit);
+    }
+
+    @Operation(
+        summary = "가장 가까운 일정 조회",
+        description = "여행 안에서 주어진 지점(위도/경도)에 가장 가까운 일정을 반환합니다. 좌표 있는 일정이 없으면 204입니다."
+    )
+    @GetMapping("/{travelId}/nearest")
+    public ResponseEntity<NearbyStopResponse> getNearestSchedule(
+        @Parameter(description = "여행 ID", required = true) @PathVariable Long travelId,
+        @Parameter(description = "위도", required = true) @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+        @Parameter(description = "경도", required = true) @RequestParam @DecimalMin("-180") @DecimalMax("180") double lon) {
+        NearbyStopResponse nearest = scheduleGeoService.nearest(travelId, lat, lon);
+        return nearest != null ? ResponseEntity.ok(nearest) : ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+        summary = "근처 인기 장소 조회",
+        description = "모든 여행의 일정 중 주어진 지점 반경 안에 있는 장소를, 일정에 넣은 여행 수가 많은 순으로 반환합니다 "
+            + "(schedule.geohash 인덱스 사용, 최대 반경 20km)."
+    )
+    @GetMapping("/popular-places")
+    public List<PopularPlaceResponse> getPopularPlaces(
+        @Parameter(description = "위도", required = true) @RequestParam @DecimalMin("-90") @DecimalMax("90") double lat,
+        @Parameter(description = "경도", required = true) @RequestParam @DecimalMin("-180") @DecimalMax("180") double lon,
+        @Parameter(description = "반경 (km)") @RequestParam(defaultValue = "3") @DecimalMin(value = "0", inclusive = false) double radiusKm,
+        @Parameter(description = "최대 개수 (1~100)") @RequestParam(defaultValue = "20") @Min(1) @Max(100) int limit) {
+        return scheduleGeoService.popular(lat, lon, radiusKm, limit);
     }
 }
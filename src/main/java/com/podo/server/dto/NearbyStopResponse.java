@@ -0,0 +1,19 @@
+package com.podo.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여행 안에서 주어진 지점 근처의 일정
+ */
+@Getter
+@AllArgsConstructor
+public class NearbyStopResponse {
+    private Long scheduleId;
+    private Integer day;
+    private String title;
+    private String placeName;
+    private Double x;            // 경도
+    private Double y;            // 위도
+    private double distanceKm;   // 주어진 지점에서의 직선 거리
+}
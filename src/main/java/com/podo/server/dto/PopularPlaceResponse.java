@@ -0,0 +1,18 @@
+package com.podo.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 여러 여행에서 일정으로 등록된 인기 장소
+ */
+@Getter
+@AllArgsConstructor
+public class PopularPlaceResponse {
+    private String placeName;
+    private String address;
+    private double x;            // 경도
+    private double y;            // 위도
+    private long trips;          // 이 장소를 일정에 넣은 여행 수
+    private double distanceKm;   // 주어진 지점에서의 직선 거리
+}
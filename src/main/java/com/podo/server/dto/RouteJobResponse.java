@@ -0,0 +1,21 @@
+package com.podo.server.dto;
+
+import com.podo.server.route.RouteJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 동선 최적화 작업 상태 (작업 등록 응답 + 작업 조회 응답)
+ */
+@Getter
+@AllArgsConstructor
+public class RouteJobResponse {
+    private String jobId;
+    private Long travelId;
+    private int day;
+    private RouteJobStatus status;
+    private int progress;                      // 진행률 (0~100)
+    private boolean joined;                    // 이미 진행 중인 같은 날 작업에 합류했는지
+    private RouteOptimizationResponse result;  // 완료 시 결과
+    private String error;                      // 실패 시 오류 메시지
+}
@@ -0,0 +1,40 @@
+package com.podo.server.dto;
+
+import com.podo.server.route.RouteStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 동선 최적화 결과 (좌표가 있는 일정 기준 이동 비용 - 왕복이면 돌아오는 구간 포함)
+ *
+ * 💡 비용 단위는 unit 참고 (기본 km 거리, 카카오 소요 시간 기준이면 분)
+ */
+@Getter
+@AllArgsConstructor
+public class RouteOptimizationResponse {
+    private int stops;               // 최적화 대상 일정 수 (좌표 있는 일정)
+    private double beforeCost;       // 최적화 전 (기존 시간순) 이동 비용
+    private double afterCost;        // 최종 이동 비용
+    private String unit;             // 비용 단위 ("km" 또는 "min")
+    private RouteStrategy strategy;  // 사용한 계산 방식 (EXACT / LOCAL_SEARCH / GREEDY)
+    private List<Long> order;        // 최적화 후 방문 순서 (일정 ID, 좌표 없는 일정은 맨 뒤)
+    private int changed;             // 실제로 시간이 바뀐 일정 수 (저장한 행 수)
+    private List<Long> changedIds;   // 시간이 바뀐 일정 ID
+
+    public static RouteOptimizationResponse unchanged(int stops, String unit, List<Long> order) {
+        return new RouteOptimizationResponse(stops, 0, 0, unit, null, order, 0, List.of());
+    }
+
+    public static RouteOptimizationResponse of(int stops, double beforeCost, double afterCost, String unit,
+                                               RouteStrategy strategy, List<Long> order, List<Long> changedIds) {
+        return new RouteOptimizationResponse(stops, round(beforeCost), round(afterCost), unit, strategy, order,
+                changedIds.size(), changedIds);
+    }
+
+    // 소수점 셋째 자리까지만 표시 (km면 미터 단위)
+    private static double round(double cost) {
+        return Math.round(cost * 1000) / 1000.0;
+    }
+}
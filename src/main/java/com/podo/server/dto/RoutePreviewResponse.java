@@ -0,0 +1,46 @@
+package com.podo.server.dto;
+
+import com.podo.server.route.RouteStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 동선 최적화 미리보기 결과 (저장하지 않음, 비용 단위는 unit 참고 - km 거리 또는 분)
+ */
+@Getter
+@AllArgsConstructor
+public class RoutePreviewResponse {
+    private int stops;               // 최적화 대상 일정 수 (좌표 있는 일정)
+    private double currentCost;      // 현재 (시간순) 이동 비용
+    private double totalCost;        // 제안 순서의 이동 비용 (왕복이면 돌아오는 구간 포함)
+    private String unit;             // 비용 단위 ("km" 또는 "min")
+    private RouteStrategy strategy;  // 사용한 계산 방식
+    private List<Stop> order;        // 제안 순서 (좌표 없는 일정은 맨 뒤, legCost = null)
+
+    public static RoutePreviewResponse of(int stops, double currentCost, double totalCost, String unit,
+                                          RouteStrategy strategy, List<Stop> order) {
+        return new RoutePreviewResponse(stops, round(currentCost), round(totalCost), unit, strategy, order);
+    }
+
+    /**
+     * 제안 순서의 일정 하나 (직전 일정에서 이동한 비용 포함)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Stop {
+        private Long scheduleId;
+        private String title;
+        private Double legCost;
+
+        public static Stop of(Long scheduleId, String title, Double legCost) {
+            return new Stop(scheduleId, title, legCost == null ? null : round(legCost));
+        }
+    }
+
+    // 소수점 셋째 자리까지만 표시 (km면 미터 단위)
+    private static double round(double cost) {
+        return Math.round(cost * 1000) / 1000.0;
+    }
+}
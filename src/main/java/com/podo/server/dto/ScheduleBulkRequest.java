@@ -0,0 +1,39 @@
+package com.podo.server.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일정 일괄 변경 요청 (생성/수정/순서 변경/삭제를 한 트랜잭션으로 처리)
+ * 빠지거나 null로 보낸 목록은 빈 목록으로 처리
+ */
+@Getter
+@NoArgsConstructor
+public class ScheduleBulkRequest {
+    private List<ScheduleRequest> create = new ArrayList<>();
+    private List<Update> update = new ArrayList<>();  // 순서 변경은 day/time만 담아서 보내면 됨
+    private List<Long> delete = new ArrayList<>();
+
+    public void setCreate(List<ScheduleRequest> create) {
+        this.create = create != null ? create : new ArrayList<>();
+    }
+
+    public void setUpdate(List<Update> update) {
+        this.update = update != null ? update : new ArrayList<>();
+    }
+
+    public void setDelete(List<Long> delete) {
+        this.delete = delete != null ? delete : new ArrayList<>();
+    }
+
+    // 수정할 일정 (null인 필드는 기존 값 유지)
+    @Getter @Setter
+    @NoArgsConstructor
+    public static class Update extends ScheduleRequest {
+        private Long id;
+    }
+}
@@ -0,0 +1,18 @@
+package com.podo.server.dto;
+
+import com.podo.server.entity.Schedule;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 일괄 변경 결과 (생성된 일정은 ID가 포함된 전체 정보로 반환)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleBulkResponse {
+    private List<Schedule> created;
+    private int updated;
+    private int deleted;
+}
@@ -0,0 +1,43 @@
+package com.podo.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 동선 최적화 완료/실패 WebSocket 메시지 (/topic/travel/{travelId})
+ *
+ * 💡 type으로 구분: SCHEDULE_OPTIMIZED (완료, 새 방문 순서 포함) / SCHEDULE_OPTIMIZE_FAILED (실패)
+ */
+@Getter
+@AllArgsConstructor
+public class ScheduleOptimizedEvent {
+    public static final String OPTIMIZED = "SCHEDULE_OPTIMIZED";
+    public static final String FAILED = "SCHEDULE_OPTIMIZE_FAILED";
+
+    private String type;
+    private String jobId;      // 비동기 작업 ID (여행 전체 최적화는 null)
+    private Long travelId;
+    private Integer day;       // 최적화한 일차 (여행 전체 최적화는 null)
+    private List<Long> order;  // 새 방문 순서 (일정 ID)
+    private List<Long> changedIds; // 실제로 바뀐 일정 ID (비어 있으면 다시 조회할 필요 없음)
+    private Double beforeCost; // 최적화 전 이동 비용
+    private Double afterCost;  // 최적화 후 이동 비용
+    private String unit;       // 비용 단위 ("km" 또는 "min")
+    private String error;
+
+    public static ScheduleOptimizedEvent completed(String jobId, Long travelId, Integer day, RouteOptimizationResponse result) {
+        return new ScheduleOptimizedEvent(OPTIMIZED, jobId, travelId, day, result.getOrder(), result.getChangedIds(),
+                result.getBeforeCost(), result.getAfterCost(), result.getUnit(), null);
+    }
+
+    public static ScheduleOptimizedEvent tripCompleted(Long travelId, TripOptimizationResponse result) {
+        return new ScheduleOptimizedEvent(OPTIMIZED, null, travelId, null, null, result.getChangedIds(),
+                result.getBeforeKm(), result.getAfterKm(), "km", null);
+    }
+
+    public static ScheduleOptimizedEvent failed(String jobId, Long travelId, Integer day, String error) {
+        return new ScheduleOptimizedEvent(FAILED, jobId, travelId, day, null, null, null, null, null, error);
+    }
+}
@@ -1,14 +1,18 @@
 package com.podo.server.dto;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalTime;
+
 @Getter @Setter
 @NoArgsConstructor
 public class ScheduleRequest {
     private Integer day;
-    private String time;
+    @JsonFormat(pattern = "H:mm")
+    private LocalTime time;   // "09:00", "9:00" 모두 허용
     private String type;
     private String title;
     private String location; // 구버전 호환
@@ -0,0 +1,54 @@
+package com.podo.server.dto;
+
+import com.podo.server.route.RouteStrategy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 여행 전체 동선 최적화 결과 (좌표가 있는 일정 기준, km)
+ */
+@Getter
+@AllArgsConstructor
+public class TripOptimizationResponse {
+    private int days;               // 여행 일수
+    private int stops;              // 최적화 대상 일정 수 (좌표 있는 일정)
+    private int movedStops;         // 다른 날로 옮겨진 일정 수
+    private double beforeKm;        // 최적화 전 일차별 이동 거리 합계
+    private double afterKm;         // 최적화 후 일차별 이동 거리 합계
+    private List<DayRoute> dayRoutes;
+    private int changed;            // 실제로 일차/시간이 바뀐 일정 수 (저장한 행 수)
+    private List<Long> changedIds;  // 일차/시간이 바뀐 일정 ID
+
+    public static TripOptimizationResponse unchanged(int days) {
+        return new TripOptimizationResponse(days, 0, 0, 0, 0, List.of(), 0, List.of());
+    }
+
+    public static TripOptimizationResponse of(int days, int stops, int movedStops, double beforeKm, double afterKm,
+                                              List<DayRoute> dayRoutes, List<Long> changedIds) {
+        return new TripOptimizationResponse(days, stops, movedStops, round(beforeKm), round(afterKm), dayRoutes,
+                changedIds.size(), changedIds);
+    }
+
+    /**
+     * 일차별 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class DayRoute {
+        private int day;
+        private int stops;
+        private double km;
+        private RouteStrategy strategy;
+
+        public static DayRoute of(int day, int stops, double km, RouteStrategy strategy) {
+            return new DayRoute(day, stops, round(km), strategy);
+        }
+    }
+
+    // 미터 단위까지만 표시
+    private static double round(double km) {
+        return Math.round(km * 1000) / 1000.0;
+    }
+}
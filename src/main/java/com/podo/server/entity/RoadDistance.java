@@ -0,0 +1,41 @@
+package com.podo.server.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 두 지점 사이 도로 거리/소요 시간 (카카오 길찾기 결과 저장용)
+ *
+ * 🔑 키: 좌표를 소수점 4자리(약 11m)로 반올림한 칸 번호 쌍 (fromCell ≤ toCell, 방향 구분 없음)
+ * 💡 한 번 계산한 칸은 다시 최적화해도 외부 API를 호출하지 않음
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "road_distance",
+        uniqueConstraints = @UniqueConstraint(name = "uk_road_distance_cells", columnNames = {"from_cell", "to_cell"}))
+public class RoadDistance {
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_cell", nullable = false)
+    private long fromCell;
+
+    @Column(name = "to_cell", nullable = false)
+    private long toCell;
+
+    private int distanceMeters;     // 도로 거리 (m)
+    private int durationSeconds;    // 소요 시간 (초)
+    private LocalDateTime createdAt;
+
+    public RoadDistance(long fromCell, long toCell, int distanceMeters, int durationSeconds) {
+        this.fromCell = Math.min(fromCell, toCell);
+        this.toCell = Math.max(fromCell, toCell);
+        this.distanceMeters = distanceMeters;
+        this.durationSeconds = durationSeconds;
+        this.createdAt = LocalDateTime.now();
+    }
+}
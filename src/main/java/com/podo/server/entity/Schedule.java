@@ -4,17 +4,38 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.podo.server.route.Geohash;
+
+import java.time.LocalTime;
 
 @Entity
 @Getter @Setter
 @NoArgsConstructor
+@Table(indexes = {
+        // 일차별 조회(travel_id, day)와 여행 전체 조회(travel_id) 모두 인덱스 범위 스캔 + 정렬 생략
+        @Index(name = "idx_schedule_travel_day_time", columnList = "travel_id, day, start_time"),
+        // 좌표 격자 조회 (여러 여행에 걸친 "이 근처 인기 장소" - geohash LIKE 'wydm9%' 범위 스캔)
+        @Index(name = "idx_schedule_geohash", columnList = "geohash")
+})
 public class Schedule {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    /**
+     * 시퀀스(pooled) 방식 ID 생성 - 한 번 조회로 50개씩 ID를 미리 받아 INSERT를 JDBC 배치로 묶음
+     * (IDENTITY 방식은 INSERT 직후 DB가 만든 ID를 읽어야 해서 배치가 불가능)
+     * MySQL에는 시퀀스가 없으므로 하이버네이트가 "schedule_seq" 테이블로 대신 관리
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedule_seq")
+    @SequenceGenerator(name = "schedule_seq", sequenceName = "schedule_seq", allocationSize = Schedule.ID_ALLOCATION_SIZE)
     private Long id;
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     private Integer day;       // 여행 몇 일차인지 (1, 2, 3...)
-    private String time;       // 시간 (e.g., "09:00")
+    @Column(name = "start_time")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime time;    // 시간 (e.g., "09:00") - 구버전 문자열 컬럼 "time"은 ScheduleTimeMigration 참고
     private String type;       // travel, meal, activity
     private String title;      // 제목
     private String location;   // 위치 (구버전 호환용)
@@ -26,6 +47,14 @@ public class Schedule {
     private Double y;         
     private String address;   
 
+    /**
+     * 좌표(y=위도, x=경도)의 geohash 9자리 (약 5m 격자) - 저장/수정 시 자동 계산
+     * 좌표가 없으면 null, 기존 데이터는 ScheduleGeohashMigration이 채움
+     */
+    @Column(length = Geohash.MAX_PRECISION)
+    @JsonIgnore
+    private String geohash;
+
     @ManyToOne
     @JoinColumn(name = "travel_id")
     @JsonIgnore
@@ -38,7 +67,7 @@ public class Schedule {
     @Version
     private Long version = 0L; // 초기화 추가 (Null 방지)
 
-    public Schedule(Integer day, String time, String type, String title, String location, String color,
+    public Schedule(Integer day, LocalTime time, String type, String title, String location, String color,
                     String placeName, Double x, Double y, String address, Travels travel) {
         this.day = day;
         this.time = time;
@@ -52,4 +81,15 @@ public class Schedule {
         this.address = address;
         this.travel = travel;
     }
+
+    @PrePersist
+    @PreUpdate
+    void updateGeohash() {
+        this.geohash = hasCoordinates() ? Geohash.encode(y, x, Geohash.MAX_PRECISION) : null;
+    }
+
+    // 카카오맵에서 고른 장소만 좌표가 있음 (직접 입력한 일정은 null 또는 0)
+    public boolean hasCoordinates() {
+        return x != null && y != null && x != 0.0 && y != 0.0;
+    }
 }
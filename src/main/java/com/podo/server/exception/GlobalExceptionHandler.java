@@ -3,8 +3,13 @@ package com.podo.server.exception;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.util.stream.Collectors;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
@@ -15,6 +20,49 @@ public class GlobalExceptionHandler {
                 .body("누군가 먼저 수정했습니다. 새로고침 해주세요.");
     }
 
+    @ExceptionHandler(RouteOptimizationConflictException.class)
+    public ResponseEntity<String> handleRouteOptimizationConflict(RouteOptimizationConflictException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(PasswordHashBusyException.class)
+    public ResponseEntity<String> handlePasswordHashBusy(PasswordHashBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(e.getMessage());
+    }
+
+    @ExceptionHandler(RouteOptimizationBusyException.class)
+    public ResponseEntity<String> handleRouteOptimizationBusy(RouteOptimizationBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(e.getMessage());
+    }
+
+    // 잘못된 동선/좌표 검색 요청 값 (예: 동선 출발/도착 일정이 그 날 좌표 있는 일정이 아님)
+    @ExceptionHandler(InvalidRouteRequestException.class)
+    public ResponseEntity<String> handleInvalidRouteRequest(InvalidRouteRequestException e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(e.getMessage());
+    }
+
+    // 요청 파라미터 검증 실패 (예: 위도 범위 밖, limit < 1)
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    public ResponseEntity<String> handleMethodValidation(HandlerMethodValidationException e) {
+        String message = e.getParameterValidationResults().stream()
+                .flatMap(result -> result.getResolvableErrors().stream()
+                        .map(error -> result.getMethodParameter().getParameterName() + ": " + error.getDefaultMessage()))
+                .collect(Collectors.joining(", "));
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("잘못된 요청 값입니다. " + message);
+    }
+
+    // 요청 파라미터 누락 / 타입 불일치 (예: lat=abc)
+    @ExceptionHandler({MissingServletRequestParameterException.class, MethodArgumentTypeMismatchException.class})
+    public ResponseEntity<String> handleBadRequestParameter(Exception e) {
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("잘못된 요청 값입니다. " + e.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleAllExceptions(Exception e) {
         e.printStackTrace(); // 서버 로그에 출력
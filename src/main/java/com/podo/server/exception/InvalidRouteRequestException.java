@@ -0,0 +1,12 @@
+package com.podo.server.exception;
+
+/**
+ * 동선/좌표 검색 요청 값이 잘못되었을 때 발생 (400 응답용)
+ * 예) 출발/도착 일정이 그 날 좌표 있는 일정이 아님, 좌표 범위 밖, 반경 0 이하
+ */
+public class InvalidRouteRequestException extends RuntimeException {
+
+    public InvalidRouteRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.podo.server.exception;
+
+/**
+ * 비밀번호 해싱 풀이 포화 상태일 때 발생 (로그인 폭주 시 빠른 거절용)
+ */
+public class PasswordHashBusyException extends RuntimeException {
+
+    public PasswordHashBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.podo.server.exception;
+
+/**
+ * 동선 최적화 작업 풀이 포화 상태일 때 발생 (최적화 요청 폭주 시 빠른 거절용)
+ */
+public class RouteOptimizationBusyException extends RuntimeException {
+
+    public RouteOptimizationBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.podo.server.exception;
+
+/**
+ * 같은 날 다른 조건(출발/도착/왕복)의 동선 최적화가 진행 중일 때 발생 (합류할 수 없는 요청 거절용)
+ */
+public class RouteOptimizationConflictException extends RuntimeException {
+
+    public RouteOptimizationConflictException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,14 @@
 package com.podo.server.interceptor;
 
+import com.podo.server.security.JwtPrincipal;
 import com.podo.server.security.JwtUtil;
 import com.podo.server.service.SessionService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
@@ -17,9 +20,9 @@ import org.springframework.web.servlet.HandlerInterceptor;
  *
  * 📌 동작 흐름:
  * 1. HTTP 요청에서 Authorization 헤더의 JWT 토큰 추출
- * 2. JWT 토큰에서 사용자 이메일 추출
- * 3. Redis에서 세션 유효성 확인
- *    - 유효하면: TTL 10분으로 갱신 → 요청 통과
+ * 2. JwtAuthenticationFilter가 검증해 둔 사용자 정보(JwtPrincipal)에서 이메일 확인
+ * 3. Redis에서 세션 유효성 확인 + TTL 갱신 (Lua 스크립트로 한 번에 처리)
+ *    - 유효하면: TTL 10분으로 갱신 (남은 TTL이 충분하면 생략) → 요청 통과
  *    - 만료되었으면: 401 Unauthorized 응답 → 로그인 페이지로 이동
  *
  * 💡 예시:
@@ -60,30 +63,30 @@ public class SessionInterceptor implements HandlerInterceptor {
         }
 
         try {
-            // "Bearer {token}" 형식에서 토큰 추출
-            String token = authHeader.replace("Bearer ", "");
-
-            // JWT 토큰 유효성 검증
-            if (!jwtUtil.validateToken(token)) {
+            // JwtAuthenticationFilter가 이미 검증한 사용자 정보 (토큰 재파싱 없음)
+            JwtPrincipal principal = currentPrincipal();
+            if (principal == null) {
                 log.warn("⚠️ 유효하지 않은 JWT 토큰: {}", request.getRequestURI());
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401
                 response.getWriter().write("{\"error\": \"유효하지 않은 토큰입니다.\"}");
                 return false; // 요청 차단
             }
 
-            // JWT에서 이메일 추출
-            String email = jwtUtil.getEmail(token);
+            String email = principal.getEmail();
+
+            // 무상태 토큰 모드: 짧은 액세스 토큰 서명 검증만으로 통과 (Redis 조회 없음)
+            if (jwtUtil.isStatelessMode()) {
+                return true;
+            }
 
-            // Redis 세션 유효성 확인
-            if (!sessionService.isSessionValid(email)) {
+            // Redis 세션 유효성 확인 + ✨ TTL 갱신 (10분 연장) - Redis 왕복 1번
+            if (!sessionService.touchSession(email)) {
                 log.warn("⚠️ Redis 세션 만료 (10분 미활동): {}", email);
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401
                 response.getWriter().write("{\"error\": \"세션이 만료되었습니다. 다시 로그인해주세요.\"}");
                 return false; // 요청 차단 (자동 로그아웃)
             }
 
-            // ✨ 세션 TTL 갱신 (10분 연장)
-            sessionService.refreshSession(email);
             log.info("✅ 세션 갱신 완료: {} → 요청 통과: {}", email, request.getRequestURI());
 
             return true; // 요청 통과
@@ -95,4 +98,13 @@ public class SessionInterceptor implements HandlerInterceptor {
             return false; // 요청 차단
         }
     }
+
+    // SecurityContext에서 인증된 사용자 꺼내기 (토큰이 잘못됐으면 null)
+    private JwtPrincipal currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,35 @@
+package com.podo.server.repository;
+
+import com.podo.server.entity.RoadDistance;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RoadDistanceRepository extends JpaRepository<RoadDistance, Long> {
+
+    /**
+     * 주어진 칸들 사이에 저장된 도로 거리 전체 조회 (행렬 하나를 쿼리 한 번으로)
+     */
+    List<RoadDistance> findByFromCellInAndToCellIn(Collection<Long> fromCells, Collection<Long> toCells);
+
+    /**
+     * 칸 쌍 저장 (이미 있으면 무시 - 다른 요청이 동시에 저장해도 유니크 키 충돌로 실패하지 않음)
+     *
+     * @return 저장된 행 수 (0 = 이미 있음)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO road_distance (from_cell, to_cell, distance_meters, duration_seconds, created_at) "
+            + "VALUES (:fromCell, :toCell, :distanceMeters, :durationSeconds, :createdAt)", nativeQuery = true)
+    int insertIgnore(@Param("fromCell") long fromCell,
+                     @Param("toCell") long toCell,
+                     @Param("distanceMeters") int distanceMeters,
+                     @Param("durationSeconds") int durationSeconds,
+                     @Param("createdAt") LocalDateTime createdAt);
+}
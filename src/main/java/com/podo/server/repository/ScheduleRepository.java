@@ -1,7 +1,10 @@
 package com.podo.server.repository;
 
 import com.podo.server.entity.Schedule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,7 +14,22 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
     // 특정 여행의 특정 날짜 일정을 시간순으로 조회
     List<Schedule> findByTravel_TravelIdAndDayOrderByTimeAsc(Long travelId, Integer day);
 
+    // 특정 여행의 전체 일정을 일차 → 시간순으로 조회 (여행 전체 일정 캐시용)
+    List<Schedule> findByTravel_TravelIdOrderByDayAscTimeAsc(Long travelId);
+
     // 사용자별 일정 유형 통계
     @org.springframework.data.jpa.repository.Query("SELECT s.type, COUNT(s) FROM Schedule s JOIN s.travel t JOIN Member m ON t.travelId = m.travel.travelId WHERE m.email = :email GROUP BY s.type")
     List<Object[]> countTypesByMemberEmail(@org.springframework.data.repository.query.Param("email") String email);
+
+    // geohash 앞자리가 같은 (= 같은 격자 칸) 일정을 장소별로 집계 - idx_schedule_geohash 범위 스캔 + 반경을 감싸는 사각형 필터
+    // 반환: [placeName, address, 평균 x, 평균 y, 등록한 여행 수] (여행 수 많은 순, 장소 이름 없는 일정은 제외 - 한 "장소"로 묶이지 않도록)
+    @Query("SELECT s.placeName, s.address, AVG(s.x), AVG(s.y), COUNT(DISTINCT s.travel.travelId) FROM Schedule s "
+            + "WHERE s.geohash LIKE CONCAT(:cell, '%') AND s.placeName IS NOT NULL AND s.placeName <> '' "
+            + "AND s.y BETWEEN :minLat AND :maxLat AND s.x BETWEEN :minLon AND :maxLon "
+            + "GROUP BY s.placeName, s.address "
+            + "ORDER BY COUNT(DISTINCT s.travel.travelId) DESC")
+    List<Object[]> countPlacesInGeohashCell(@Param("cell") String cell,
+                                            @Param("minLat") double minLat, @Param("maxLat") double maxLat,
+                                            @Param("minLon") double minLon, @Param("maxLon") double maxLon,
+                                            Pageable pageable);
 }
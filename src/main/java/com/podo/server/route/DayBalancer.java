@@ -0,0 +1,210 @@
+package com.podo.server.route;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 여행 전체 일정을 일차별로 나누기 (용량 제한이 있는 지리적 군집화)
+ *
+ * 🎯 목적: 여러 날에 흩어진 장소를 가까운 곳끼리 같은 날로 묶어서 하루 동선이 한 지역에 모이도록 함
+ *
+ * 📌 동작 방식 (용량 제한 k-means):
+ * 1. 초기 중심: 서로 가장 멀리 떨어진 장소부터 차례로 선택 (결과가 매번 같도록 무작위 없음)
+ * 2. 배정: 가장 가까운 날과 두 번째로 가까운 날의 차이(regret)가 큰 장소부터,
+ *         자리가 남은 날 중 가장 가까운 날에 배정 (하루 최대 capacity곳)
+ * 3. 중심 재계산 → 배정이 바뀌지 않거나 최대 반복 횟수까지 2~3 반복
+ * 4. 군집 번호 → 실제 일차: 원래 그 날에 있던 장소가 가장 많이 겹치도록 매칭 (불필요한 이동 최소화)
+ *
+ * 💡 거리는 위도 기준 cos 보정한 평면 근사 (군집화 용도로는 충분, 실제 경로 거리는 DistanceMatrix)
+ */
+public final class DayBalancer {
+
+    private static final int MAX_ITERATIONS = 30;
+
+    private DayBalancer() {
+    }
+
+    /**
+     * @param latitudes 위도 배열
+     * @param longitudes 경도 배열
+     * @param originalDays 장소별 현재 일차 (1..days)
+     * @param days 여행 일수
+     * @param capacity 하루 최대 장소 수 (days × capacity ≥ 장소 수 여야 함)
+     * @return 장소별 새 일차 (1..days)
+     */
+    public static int[] assign(double[] latitudes, double[] longitudes, int[] originalDays, int days, int capacity) {
+        int n = latitudes.length;
+        if (n == 0) {
+            return new int[0];
+        }
+        if ((long) days * capacity < n) {
+            throw new IllegalArgumentException("하루 최대 장소 수가 너무 적습니다: " + capacity);
+        }
+
+        // 평면 근사 좌표 (경도는 평균 위도의 cos으로 보정)
+        double meanLat = Arrays.stream(latitudes).average().orElse(0);
+        double scale = Math.cos(Math.toRadians(meanLat));
+        double[] px = new double[n];
+        double[] py = new double[n];
+        for (int i = 0; i < n; i++) {
+            px[i] = longitudes[i] * scale;
+            py[i] = latitudes[i];
+        }
+
+        int k = Math.min(days, n);
+        double[] cx = new double[k];
+        double[] cy = new double[k];
+        seed(px, py, cx, cy);
+
+        int[] cluster = new int[n];
+        Arrays.fill(cluster, -1);
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            int[] next = assignWithCapacity(px, py, cx, cy, capacity);
+            boolean changed = !Arrays.equals(next, cluster);
+            cluster = next;
+            updateCenters(px, py, cluster, cx, cy);
+            if (!changed) {
+                break;
+            }
+        }
+
+        return toDays(cluster, originalDays, k, days);
+    }
+
+    // 서로 가장 멀리 떨어진 장소를 차례로 중심으로 선택
+    private static void seed(double[] px, double[] py, double[] cx, double[] cy) {
+        int n = px.length;
+        double meanX = Arrays.stream(px).average().orElse(0);
+        double meanY = Arrays.stream(py).average().orElse(0);
+
+        double[] nearestCenter = new double[n];
+        int first = 0;
+        for (int i = 1; i < n; i++) {
+            if (squared(px[i], py[i], meanX, meanY) > squared(px[first], py[first], meanX, meanY)) {
+                first = i;
+            }
+        }
+        cx[0] = px[first];
+        cy[0] = py[first];
+        for (int i = 0; i < n; i++) {
+            nearestCenter[i] = squared(px[i], py[i], cx[0], cy[0]);
+        }
+
+        for (int c = 1; c < cx.length; c++) {
+            int farthest = 0;
+            for (int i = 1; i < n; i++) {
+                if (nearestCenter[i] > nearestCenter[farthest]) {
+                    farthest = i;
+                }
+            }
+            cx[c] = px[farthest];
+            cy[c] = py[farthest];
+            for (int i = 0; i < n; i++) {
+                nearestCenter[i] = Math.min(nearestCenter[i], squared(px[i], py[i], cx[c], cy[c]));
+            }
+        }
+    }
+
+    // regret이 큰 장소부터 자리가 남은 가장 가까운 군집에 배정
+    private static int[] assignWithCapacity(double[] px, double[] py, double[] cx, double[] cy, int capacity) {
+        int n = px.length;
+        int k = cx.length;
+        double[][] distance = new double[n][k];
+        double[] regret = new double[n];
+        for (int i = 0; i < n; i++) {
+            double best = Double.MAX_VALUE;
+            double second = Double.MAX_VALUE;
+            for (int c = 0; c < k; c++) {
+                double d = squared(px[i], py[i], cx[c], cy[c]);
+                distance[i][c] = d;
+                if (d < best) {
+                    second = best;
+                    best = d;
+                } else if (d < second) {
+                    second = d;
+                }
+            }
+            regret[i] = k > 1 ? second - best : 0;
+        }
+
+        Integer[] byRegret = IntStream.range(0, n).boxed().toArray(Integer[]::new);
+        Arrays.sort(byRegret, Comparator.comparingDouble((Integer i) -> regret[i]).reversed());
+
+        int[] cluster = new int[n];
+        int[] load = new int[k];
+        for (int i : byRegret) {
+            int best = -1;
+            for (int c = 0; c < k; c++) {
+                if (load[c] < capacity && (best < 0 || distance[i][c] < distance[i][best])) {
+                    best = c;
+                }
+            }
+            cluster[i] = best;
+            load[best]++;
+        }
+        return cluster;
+    }
+
+    private static void updateCenters(double[] px, double[] py, int[] cluster, double[] cx, double[] cy) {
+        int k = cx.length;
+        double[] sumX = new double[k];
+        double[] sumY = new double[k];
+        int[] count = new int[k];
+        for (int i = 0; i < px.length; i++) {
+            sumX[cluster[i]] += px[i];
+            sumY[cluster[i]] += py[i];
+            count[cluster[i]]++;
+        }
+        for (int c = 0; c < k; c++) {
+            if (count[c] > 0) {
+                cx[c] = sumX[c] / count[c];
+                cy[c] = sumY[c] / count[c];
+            }
+        }
+    }
+
+    // 군집 ↔ 일차 매칭: 원래 일차와 겹치는 장소 수가 많은 쌍부터 확정
+    private static int[] toDays(int[] cluster, int[] originalDays, int k, int days) {
+        int[][] overlap = new int[k][days + 1];
+        for (int i = 0; i < cluster.length; i++) {
+            int day = originalDays[i];
+            if (day >= 1 && day <= days) {
+                overlap[cluster[i]][day]++;
+            }
+        }
+
+        int[] dayOfCluster = new int[k];
+        Arrays.fill(dayOfCluster, -1);
+        boolean[] usedDay = new boolean[days + 1];
+        for (int round = 0; round < k; round++) {
+            int bestCluster = -1;
+            int bestDay = -1;
+            for (int c = 0; c < k; c++) {
+                if (dayOfCluster[c] >= 0) {
+                    continue;
+                }
+                for (int day = 1; day <= days; day++) {
+                    if (!usedDay[day] && (bestCluster < 0 || overlap[c][day] > overlap[bestCluster][bestDay])) {
+                        bestCluster = c;
+                        bestDay = day;
+                    }
+                }
+            }
+            dayOfCluster[bestCluster] = bestDay;
+            usedDay[bestDay] = true;
+        }
+
+        int[] result = new int[cluster.length];
+        for (int i = 0; i < cluster.length; i++) {
+            result[i] = dayOfCluster[cluster[i]];
+        }
+        return result;
+    }
+
+    private static double squared(double x1, double y1, double x2, double y2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        return dx * dx + dy * dy;
+    }
+}
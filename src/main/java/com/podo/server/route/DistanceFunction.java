@@ -0,0 +1,23 @@
+package com.podo.server.route;
+
+/**
+ * 경로 계산용 거리 함수 (정점 번호 → 거리, 단위는 DistanceProvider.unit() - km 또는 분)
+ *
+ * 💡 경로 알고리즘은 Schedule 객체 대신 0..N-1 정점 번호로만 동작
+ */
+@FunctionalInterface
+public interface DistanceFunction {
+
+    double between(int from, int to);
+
+    /**
+     * 방문 순서대로 이동한 총 거리 (돌아오지 않는 열린 경로)
+     */
+    default double pathLength(int[] order) {
+        double total = 0;
+        for (int i = 1; i < order.length; i++) {
+            total += between(order[i - 1], order[i]);
+        }
+        return total;
+    }
+}
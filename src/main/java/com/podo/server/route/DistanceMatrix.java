@@ -0,0 +1,97 @@
+package com.podo.server.route;
+
+/**
+ * 정점 간 거리 행렬 (대칭, km)
+ *
+ * 🎯 목적: O(N²) 탐색 루프 안에서 매번 삼각함수를 다시 계산하지 않도록 거리를 한 번만 계산해 둠
+ *
+ * 📌 구성 방식:
+ * 1. 위도/경도를 라디안으로, 위도의 cos 값을 정점마다 한 번만 계산 (double[] 배열)
+ * 2. i < j 쌍만 Haversine 계산 후 [i][j], [j][i]에 같은 값 저장 (계산량 절반)
+ * 3. 1차원 double[] 하나에 저장 (객체/박싱 없음, 캐시 친화적)
+ *
+ * 💾 메모리: N² × 8바이트 (N = 1,000이면 약 8MB)
+ *    → 탐욕법만 쓰는 아주 큰 입력은 행렬 없이 haversineOnDemand 사용 (정점마다 라디안/cos 값만 보관)
+ */
+public final class DistanceMatrix implements DistanceFunction {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+
+    private final int size;
+    private final double[] values;
+
+    private DistanceMatrix(int size, double[] values) {
+        this.size = size;
+        this.values = values;
+    }
+
+    /**
+     * 위도/경도(도 단위) 배열로 Haversine 거리 행렬 생성
+     */
+    public static DistanceMatrix haversine(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[] latRad = new double[n];
+        double[] lonRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(latitudes[i]);
+            lonRad[i] = Math.toRadians(longitudes[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+
+        double[] values = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double distance = haversine(latRad[i], lonRad[i], cosLat[i], latRad[j], lonRad[j], cosLat[j]);
+                values[i * n + j] = distance;
+                values[j * n + i] = distance;
+            }
+        }
+        return new DistanceMatrix(n, values);
+    }
+
+    /**
+     * 행렬 없이 호출할 때마다 계산하는 Haversine 거리 함수 (메모리 O(N))
+     *
+     * 💡 탐욕법은 정점 쌍마다 거리를 한두 번만 읽으므로 미리 저장해 둘 이득이 없음 (N = 2,000이면 행렬만 약 32MB)
+     */
+    public static DistanceFunction haversineOnDemand(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[] latRad = new double[n];
+        double[] lonRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(latitudes[i]);
+            lonRad[i] = Math.toRadians(longitudes[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+        return (from, to) -> from == to ? 0
+                : haversine(latRad[from], lonRad[from], cosLat[from], latRad[to], lonRad[to], cosLat[to]);
+    }
+
+    /**
+     * 두 지점 사이 거리 (km) - 행렬 없이 몇 구간만 잴 때 사용 (예: 현재 순서의 이동 거리)
+     */
+    public static double haversineKm(double lat1, double lon1, double lat2, double lon2) {
+        double latRad1 = Math.toRadians(lat1);
+        double latRad2 = Math.toRadians(lat2);
+        return haversine(latRad1, Math.toRadians(lon1), Math.cos(latRad1),
+                latRad2, Math.toRadians(lon2), Math.cos(latRad2));
+    }
+
+    private static double haversine(double lat1, double lon1, double cosLat1, double lat2, double lon2, double cosLat2) {
+        double sinLat = Math.sin((lat2 - lat1) / 2);
+        double sinLon = Math.sin((lon2 - lon1) / 2);
+        double a = sinLat * sinLat + cosLat1 * cosLat2 * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double between(int from, int to) {
+        return values[from * size + to];
+    }
+}
@@ -0,0 +1,52 @@
+package com.podo.server.route;
+
+/**
+ * 정점 간 이동 비용(거리/시간) 행렬 공급자
+ *
+ * 🎯 목적: 경로 알고리즘은 그대로 두고 "두 장소 사이가 얼마나 먼가"만 바꿔 끼울 수 있도록 분리
+ *
+ * 📦 구현체 (route.distance.provider 로 선택, DistanceProviderConfig):
+ * - haversine (기본): 직선 거리 (km), 외부 호출 없음
+ * - kakao: 카카오 길찾기 API 도로 거리/소요 시간, 계산한 칸은 DB(road_distance)에 저장해서 재사용
+ * - stub: 외부 호출 없는 고정 계산 (로컬 개발/테스트용 도로 흉내)
+ */
+public interface DistanceProvider {
+
+    /**
+     * 공급자 이름 (경로 계산 캐시 키에 포함 - 공급자가 바뀌면 이전 계산 결과를 쓰지 않음)
+     */
+    String name();
+
+    /**
+     * 비용 단위 ("km" 또는 "min")
+     */
+    String unit();
+
+    /**
+     * 위도/경도(도 단위) 배열로 정점 간 비용 행렬 생성 (대칭)
+     */
+    DistanceFunction matrix(double[] latitudes, double[] longitudes);
+
+    /**
+     * 행렬 없이 필요할 때마다 계산하는 비용 함수 (탐욕법만 쓰는 아주 큰 입력용 - N² 메모리/조회 없음)
+     *
+     * 💡 기본 구현은 직선 거리(km) - 단위나 계산 방식이 다른 공급자는 재정의
+     */
+    default DistanceFunction onDemand(double[] latitudes, double[] longitudes) {
+        return DistanceMatrix.haversineOnDemand(latitudes, longitudes);
+    }
+
+    /**
+     * 주어진 순서대로 이동한 비용 (왕복이면 돌아오는 비용 포함)
+     *
+     * 💡 기본 구현은 행렬을 만들어서 계산 - 구간만 재면 되는 공급자는 재정의
+     */
+    default double pathLength(double[] latitudes, double[] longitudes, boolean roundTrip) {
+        int n = latitudes.length;
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        return RouteSolver.length(matrix(latitudes, longitudes), order, roundTrip);
+    }
+}
@@ -0,0 +1,130 @@
+package com.podo.server.route;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Geohash 인코딩 (위도/경도 → 격자 문자열)
+ *
+ * 🎯 목적: 가까운 장소는 앞자리가 같은 문자열이 되도록 만들어서
+ *         DB 인덱스(LIKE 'wydm9%') 범위 조회와 메모리 타일 묶음에 사용
+ *
+ * 📏 자릿수별 격자 크기 (적도 기준, 가로 × 세로):
+ * - 5자리: 약 4.9km × 4.9km
+ * - 6자리: 약 1.2km × 0.6km
+ * - 7자리: 약 153m × 153m
+ * - 9자리: 약 4.8m × 4.8m (저장용)
+ *
+ * 💡 격자 경계 바로 옆 장소를 놓치지 않도록 항상 주변 8칸까지 함께 조회 (cellsAround)
+ */
+public final class Geohash {
+
+    public static final int MAX_PRECISION = 9;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+    private static final double EARTH_CIRCUMFERENCE_KM = 40_075.0;
+
+    private Geohash() {
+    }
+
+    /**
+     * 위도/경도 → geohash (precision자리)
+     */
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90;
+        double maxLat = 90;
+        double minLon = -180;
+        double maxLon = 180;
+        double lat = Math.max(-90, Math.min(90, latitude));
+        double lon = wrapLongitude(longitude);
+
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true; // 짝수 번째 비트는 경도, 홀수 번째는 위도
+        int bit = 0;
+        int index = 0;
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLon + maxLon) / 2;
+                if (lon >= mid) {
+                    index = (index << 1) | 1;
+                    minLon = mid;
+                } else {
+                    index <<= 1;
+                    maxLon = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (lat >= mid) {
+                    index = (index << 1) | 1;
+                    minLat = mid;
+                } else {
+                    index <<= 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+            if (++bit == 5) {
+                hash.append(BASE32[index]);
+                bit = 0;
+                index = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * 중심 칸 + 주변 8칸 (중복 제거, 극지방에서는 8칸보다 적을 수 있음)
+     */
+    public static Set<String> cellsAround(double latitude, double longitude, int precision) {
+        double latStep = cellHeightDegrees(precision);
+        double lonStep = cellWidthDegrees(precision);
+        Set<String> cells = new LinkedHashSet<>();
+        for (int dy = -1; dy <= 1; dy++) {
+            double lat = latitude + dy * latStep;
+            if (lat < -90 || lat > 90) {
+                continue;
+            }
+            for (int dx = -1; dx <= 1; dx++) {
+                cells.add(encode(lat, longitude + dx * lonStep, precision));
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * 반경(km)을 주변 8칸이 모두 덮는 가장 긴 자릿수 (1 ~ maxPrecision)
+     *
+     * 💡 칸의 짧은 변이 반경 이상이면, 중심 칸 + 주변 8칸이 반경 안의 모든 지점을 포함
+     */
+    public static int precisionFor(double radiusKm, double latitude, int maxPrecision) {
+        for (int precision = maxPrecision; precision > 1; precision--) {
+            if (minCellSizeKm(precision, latitude) >= radiusKm) {
+                return precision;
+            }
+        }
+        return 1;
+    }
+
+    /**
+     * 해당 위도에서 칸의 짧은 변 길이 (km)
+     */
+    public static double minCellSizeKm(int precision, double latitude) {
+        double kmPerDegree = EARTH_CIRCUMFERENCE_KM / 360;
+        double height = cellHeightDegrees(precision) * kmPerDegree;
+        double width = cellWidthDegrees(precision) * kmPerDegree * Math.cos(Math.toRadians(latitude));
+        return Math.min(height, width);
+    }
+
+    // 경도 비트 수 = ceil(5p / 2), 위도 비트 수 = floor(5p / 2)
+    private static double cellWidthDegrees(int precision) {
+        return 360 / Math.pow(2, (5 * precision + 1) / 2);
+    }
+
+    private static double cellHeightDegrees(int precision) {
+        return 180 / Math.pow(2, (5 * precision) / 2);
+    }
+
+    private static double wrapLongitude(double longitude) {
+        return ((longitude + 180) % 360 + 360) % 360 - 180;
+    }
+}
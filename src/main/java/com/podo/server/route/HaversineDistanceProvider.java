@@ -0,0 +1,38 @@
+package com.podo.server.route;
+
+/**
+ * 직선 거리 공급자 (기본값, km)
+ */
+public class HaversineDistanceProvider implements DistanceProvider {
+
+    public static final String NAME = "haversine";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String unit() {
+        return "km";
+    }
+
+    @Override
+    public DistanceFunction matrix(double[] latitudes, double[] longitudes) {
+        return DistanceMatrix.haversine(latitudes, longitudes);
+    }
+
+    // 행렬 없이 구간만 계산 (O(N))
+    @Override
+    public double pathLength(double[] latitudes, double[] longitudes, boolean roundTrip) {
+        int n = latitudes.length;
+        double total = 0;
+        for (int i = 1; i < n; i++) {
+            total += DistanceMatrix.haversineKm(latitudes[i - 1], longitudes[i - 1], latitudes[i], longitudes[i]);
+        }
+        if (roundTrip && n > 1) {
+            total += DistanceMatrix.haversineKm(latitudes[n - 1], longitudes[n - 1], latitudes[0], longitudes[0]);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,107 @@
+package com.podo.server.route;
+
+import java.util.Arrays;
+
+/**
+ * 정확해(최단 경로) 계산 - Held-Karp 비트마스크 동적 계획법
+ *
+ * 🎯 목적: 하루 일정이 12곳 이하처럼 적을 때는 휴리스틱 대신 증명 가능한 최단 순서를 사용
+ *
+ * 📌 동작 원리:
+ * - dp[방문한 정점 집합][마지막 정점] = 출발지에서 시작해 그 집합을 모두 방문하고 마지막 정점에 도착하는 최단 거리
+ * - 도착지가 고정이면 dp[전체][도착지], 아니면 dp[전체][*] 중 최솟값에서 역추적
+ *
+ * ⏱️ 복잡도: 시간 O(2^N × N²), 메모리 O(2^N × N) → N ≤ 16 으로 제한 (N = 12면 약 60만 번 계산)
+ */
+public final class HeldKarp {
+
+    public static final int MAX_SIZE = 16;
+
+    private HeldKarp() {
+    }
+
+    /**
+     * @param distance 거리 함수 (정점 0..size-1)
+     * @param size 정점 수 (MAX_SIZE 이하)
+     * @param start 출발 정점
+     * @param end 도착 정점 (-1이면 도착지 자유 = 열린 경로)
+     * @return 최단 방문 순서
+     */
+    public static int[] solve(DistanceFunction distance, int size, int start, int end) {
+        if (size > MAX_SIZE) {
+            throw new IllegalArgumentException("Held-Karp는 정점 " + MAX_SIZE + "개까지만 지원합니다: " + size);
+        }
+        if (size == 1) {
+            return new int[]{start};
+        }
+
+        // 출발지를 뺀 나머지 정점을 비트 번호에 매핑
+        int m = size - 1;
+        int[] nodes = new int[m];
+        int endBit = -1;
+        for (int v = 0, bit = 0; v < size; v++) {
+            if (v == start) {
+                continue;
+            }
+            if (v == end) {
+                endBit = bit;
+            }
+            nodes[bit++] = v;
+        }
+
+        int full = (1 << m) - 1;
+        double[] dp = new double[(full + 1) * m];
+        int[] parent = new int[(full + 1) * m];
+        Arrays.fill(dp, Double.POSITIVE_INFINITY);
+        for (int j = 0; j < m; j++) {
+            dp[(1 << j) * m + j] = distance.between(start, nodes[j]);
+            parent[(1 << j) * m + j] = -1;
+        }
+
+        for (int mask = 1; mask <= full; mask++) {
+            for (int j = 0; j < m; j++) {
+                if ((mask & (1 << j)) == 0) {
+                    continue;
+                }
+                double current = dp[mask * m + j];
+                if (current == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                for (int t = 0; t < m; t++) {
+                    if ((mask & (1 << t)) != 0) {
+                        continue;
+                    }
+                    int next = (mask | (1 << t)) * m + t;
+                    double candidate = current + distance.between(nodes[j], nodes[t]);
+                    if (candidate < dp[next]) {
+                        dp[next] = candidate;
+                        parent[next] = j;
+                    }
+                }
+            }
+        }
+
+        int last = endBit;
+        if (last < 0) {
+            double best = Double.POSITIVE_INFINITY;
+            for (int j = 0; j < m; j++) {
+                if (dp[full * m + j] < best) {
+                    best = dp[full * m + j];
+                    last = j;
+                }
+            }
+        }
+
+        // 마지막 정점에서 거꾸로 따라가며 순서 복원
+        int[] order = new int[size];
+        order[0] = start;
+        int mask = full;
+        for (int position = size - 1; position >= 1; position--) {
+            order[position] = nodes[last];
+            int previous = parent[mask * m + last];
+            mask &= ~(1 << last);
+            last = previous;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,274 @@
+package com.podo.server.route;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.podo.server.entity.RoadDistance;
+import com.podo.server.repository.RoadDistanceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카카오 길찾기 API 도로 거리/소요 시간 공급자
+ *
+ * 📌 동작 방식:
+ * 1. 좌표를 소수점 4자리(약 11m) 칸 번호로 반올림
+ * 2. 저장된 칸 쌍(road_distance)을 쿼리 한 번으로 조회
+ * 3. 없는 쌍만 카카오 API 호출 (NaviController와 같은 directions API, 요청당 최대 maxCallsPerMatrix번 / maxFetchMillis 동안)
+ * 4. 성공한 결과는 별도 트랜잭션으로 저장 → 다음 최적화부터는 외부 호출 없음
+ *
+ * ⚠️ 외부 호출이 있으므로 DB 쓰기 트랜잭션 밖에서 호출할 것 (RouteService는 계산을 마친 뒤 저장 트랜잭션을 엶)
+ *
+ * 💡 행렬은 대칭으로 사용 (A→B 결과를 B→A에도 사용, 호출 수 절반 - 2-opt가 대칭 거리를 가정)
+ * 💡 호출 실패/경로 없음/호출 한도 초과 칸은 직선 거리 기반 추정치 사용 (저장하지 않음 - 다음에 다시 시도)
+ */
+@Slf4j
+public class KakaoRoadDistanceProvider implements DistanceProvider {
+
+    public static final String NAME = "kakao";
+
+    private static final String DIRECTIONS_URL = "https://apis-navi.kakaomobility.com/v1/directions";
+    private static final double COORDINATE_SCALE = 10_000;          // 소수점 4자리
+    private static final long LONGITUDE_CELLS = 3_600_001;          // -180.0000 ~ 180.0000
+    private static final double DETOUR_FACTOR = 1.3;                // 추정치: 도로는 직선보다 약 30% 김
+    private static final double ESTIMATED_SPEED_KM_PER_MINUTE = 0.5; // 추정치: 평균 시속 30km
+
+    /**
+     * 최적화 기준: 도로 거리(km) 또는 소요 시간(분)
+     */
+    public enum Metric {
+        DISTANCE, DURATION
+    }
+
+    private final RoadDistanceRepository roadDistanceRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final RestTemplate restTemplate;
+    private final String kakaoRestApiKey;
+    private final Metric metric;
+    private final int maxCallsPerMatrix;
+    private final long maxFetchMillis;
+
+    public KakaoRoadDistanceProvider(RoadDistanceRepository roadDistanceRepository,
+                                     TransactionTemplate requiresNewTransaction,
+                                     RestTemplate restTemplate,
+                                     String kakaoRestApiKey,
+                                     Metric metric,
+                                     int maxCallsPerMatrix,
+                                     long maxFetchMillis) {
+        this.roadDistanceRepository = roadDistanceRepository;
+        this.requiresNewTransaction = requiresNewTransaction;
+        this.restTemplate = restTemplate;
+        this.kakaoRestApiKey = kakaoRestApiKey;
+        this.metric = metric;
+        this.maxCallsPerMatrix = maxCallsPerMatrix;
+        this.maxFetchMillis = maxFetchMillis;
+    }
+
+    @Override
+    public String name() {
+        return NAME + "-" + metric.name().toLowerCase();
+    }
+
+    @Override
+    public String unit() {
+        return metric == Metric.DURATION ? "min" : "km";
+    }
+
+    @Override
+    public DistanceFunction matrix(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        long[] cells = cells(latitudes, longitudes);
+        List<int[]> pairs = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                pairs.add(new int[]{i, j});
+            }
+        }
+
+        Map<String, RoadDistance> known = lookup(latitudes, longitudes, cells, pairs);
+        double[] values = new double[n * n];
+        for (int[] pair : pairs) {
+            int i = pair[0];
+            int j = pair[1];
+            double value = cost(known, latitudes, longitudes, cells, i, j);
+            values[i * n + j] = value;
+            values[j * n + i] = value;
+        }
+        return (from, to) -> values[from * n + to];
+    }
+
+    /**
+     * 탐욕법만 쓰는 아주 큰 입력: 칸 쌍 조회/API 호출 없이 직선 거리 기반 추정치만 사용
+     * (정점 쌍이 N²/2개라 호출 한도로는 극히 일부만 채울 수 있고, 쌍 목록/행렬 자체가 메모리를 차지함)
+     */
+    @Override
+    public DistanceFunction onDemand(double[] latitudes, double[] longitudes) {
+        long[] cells = cells(latitudes, longitudes);
+        return (from, to) -> cells[from] == cells[to] ? 0
+                : estimate(latitudes[from], longitudes[from], latitudes[to], longitudes[to]);
+    }
+
+    /**
+     * 주어진 순서대로 이동한 비용 - 연속한 구간(n-1개, 왕복이면 +1)만 조회/호출 (전체 행렬을 만들지 않음)
+     */
+    @Override
+    public double pathLength(double[] latitudes, double[] longitudes, boolean roundTrip) {
+        int n = latitudes.length;
+        long[] cells = cells(latitudes, longitudes);
+        List<int[]> legs = new ArrayList<>();
+        for (int i = 1; i < n; i++) {
+            legs.add(new int[]{i - 1, i});
+        }
+        if (roundTrip && n > 1) {
+            legs.add(new int[]{n - 1, 0});
+        }
+
+        Map<String, RoadDistance> known = lookup(latitudes, longitudes, cells, legs);
+        double total = 0;
+        for (int[] leg : legs) {
+            total += cost(known, latitudes, longitudes, cells, leg[0], leg[1]);
+        }
+        return total;
+    }
+
+    /**
+     * 필요한 칸 쌍의 도로 거리 확보 (저장된 값 → 없으면 API 호출)
+     *
+     * 💡 API 호출은 횟수(maxCallsPerMatrix)와 전체 시간(maxFetchMillis) 둘 다 제한
+     *    - 시간을 넘기면 남은 쌍은 호출하지 않고 추정치 사용 (최악: maxFetchMillis + 호출 1번의 타임아웃)
+     *    - 동선 캐시의 단일 로딩 대기 시간(cache.single-flight.wait-timeout-millis)보다 짧게 유지
+     *
+     * @return 칸 쌍 키 → 도로 거리 (확보하지 못한 쌍은 없음)
+     */
+    private Map<String, RoadDistance> lookup(double[] latitudes, double[] longitudes, long[] cells, List<int[]> pairs) {
+        Set<Long> distinctCells = new LinkedHashSet<>();
+        for (long cell : cells) {
+            distinctCells.add(cell);
+        }
+
+        // 1. 저장된 칸 쌍 한 번에 조회
+        Map<String, RoadDistance> known = new HashMap<>();
+        for (RoadDistance cached : roadDistanceRepository.findByFromCellInAndToCellIn(distinctCells, distinctCells)) {
+            known.put(pairKey(cached.getFromCell(), cached.getToCell()), cached);
+        }
+
+        // 2. 없는 쌍만 API 호출 (횟수/시간 한도까지), 나머지는 추정치
+        List<RoadDistance> fetched = new ArrayList<>();
+        Set<String> attempted = new HashSet<>();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxFetchMillis);
+        int calls = 0;
+        for (int[] pair : pairs) {
+            int i = pair[0];
+            int j = pair[1];
+            String key = pairKey(cells[i], cells[j]);
+            if (cells[i] == cells[j] || known.containsKey(key) || !attempted.add(key)) {
+                continue;
+            }
+            if (calls >= maxCallsPerMatrix || System.nanoTime() >= deadline) {
+                log.debug("Road distance fetch budget used up ({} calls) - estimating the rest", calls);
+                break;
+            }
+            calls++;
+            RoadDistance road = fetch(cells[i], latitudes[i], longitudes[i], cells[j], latitudes[j], longitudes[j]);
+            if (road != null) {
+                known.put(key, road);
+                fetched.add(road);
+            }
+        }
+
+        save(fetched);
+        log.debug("Road distances resolved: {} stops, {} pairs, {} cached, {} API calls",
+                cells.length, pairs.size(), known.size() - fetched.size(), calls);
+        return known;
+    }
+
+    private double cost(Map<String, RoadDistance> known, double[] latitudes, double[] longitudes, long[] cells, int i, int j) {
+        if (cells[i] == cells[j]) {
+            return 0;
+        }
+        RoadDistance road = known.get(pairKey(cells[i], cells[j]));
+        return road != null ? cost(road) : estimate(latitudes[i], longitudes[i], latitudes[j], longitudes[j]);
+    }
+
+    // 카카오 API 한 번 호출 (실패/경로 없음이면 null)
+    private RoadDistance fetch(long fromCell, double fromLat, double fromLon, long toCell, double toLat, double toLon) {
+        String url = DIRECTIONS_URL + "?origin=" + fromLon + "," + fromLat + "&destination=" + toLon + "," + toLat;
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Authorization", "KakaoAK " + kakaoRestApiKey);
+
+        try {
+            JsonNode body = restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), JsonNode.class).getBody();
+            JsonNode route = body == null ? null : body.path("routes").path(0);
+            if (route == null || route.path("result_code").asInt(-1) != 0) {
+                log.debug("No road route between cells {} and {}", fromCell, toCell);
+                return null;
+            }
+            JsonNode summary = route.path("summary");
+            return new RoadDistance(fromCell, toCell, summary.path("distance").asInt(), summary.path("duration").asInt());
+        } catch (Exception e) {
+            log.warn("Failed to get road distance from Kakao API: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 별도 트랜잭션으로 저장 (다른 요청이 같은 칸을 먼저 저장해도 최적화는 영향 없음)
+     *
+     * 💡 행마다 INSERT IGNORE → 다른 요청이 먼저 저장한 칸(유니크 키 중복)만 건너뛰고 나머지는 저장
+     *    (saveAll은 한 행만 겹쳐도 묶음 전체가 롤백됨)
+     */
+    private void save(List<RoadDistance> fetched) {
+        if (fetched.isEmpty()) {
+            return;
+        }
+        try {
+            requiresNewTransaction.executeWithoutResult(status -> {
+                for (RoadDistance road : fetched) {
+                    roadDistanceRepository.insertIgnore(road.getFromCell(), road.getToCell(),
+                            road.getDistanceMeters(), road.getDurationSeconds(), road.getCreatedAt());
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("Road distance cells were not saved: {}", e.getMessage());
+        }
+    }
+
+    private double cost(RoadDistance road) {
+        return metric == Metric.DURATION ? road.getDurationSeconds() / 60.0 : road.getDistanceMeters() / 1000.0;
+    }
+
+    private double estimate(double fromLat, double fromLon, double toLat, double toLon) {
+        double roadKm = DistanceMatrix.haversineKm(fromLat, fromLon, toLat, toLon) * DETOUR_FACTOR;
+        return metric == Metric.DURATION ? roadKm / ESTIMATED_SPEED_KM_PER_MINUTE : roadKm;
+    }
+
+    private static long[] cells(double[] latitudes, double[] longitudes) {
+        long[] cells = new long[latitudes.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = cell(latitudes[i], longitudes[i]);
+        }
+        return cells;
+    }
+
+    // 반올림한 좌표 → 칸 번호 (위도/경도를 하나의 long으로)
+    static long cell(double latitude, double longitude) {
+        long lat = Math.round((latitude + 90) * COORDINATE_SCALE);
+        long lon = Math.round((longitude + 180) * COORDINATE_SCALE);
+        return lat * LONGITUDE_CELLS + lon;
+    }
+
+    private static String pairKey(long a, long b) {
+        return Math.min(a, b) + ":" + Math.max(a, b);
+    }
+}
@@ -0,0 +1,181 @@
+package com.podo.server.route;
+
+/**
+ * 경로 개선 단계 (2-opt + Or-opt 지역 탐색)
+ *
+ * 🎯 목적: Nearest Neighbor(탐욕법)로 만든 경로는 최적보다 20~25% 길어지기 쉬움
+ *         → 경로를 조금씩 바꿔 보면서 짧아지는 변경만 반영
+ *
+ * 📌 개선 동작:
+ * 1. 2-opt: 구간 [i..j]를 뒤집기 (엇갈린 두 이동 구간을 풀어줌)
+ * 2. Or-opt: 연속된 1~3개 정점을 떼어 다른 위치에 끼우기 (뒤집어서 끼우기 포함)
+ *
+ * ⏱️ 종료 조건: 더 이상 짧아지는 변경이 없거나 시간 예산(deadline)을 넘기면 그 시점의 경로 반환
+ *
+ * 💡 첫 정점(출발지)은 고정, 경로는 돌아오지 않는 열린 경로
+ *    (fixedEnd이면 마지막 정점(도착지)도 고정)
+ */
+public final class LocalSearch {
+
+    private static final double EPSILON = 1e-9;
+    private static final int MAX_SEGMENT_LENGTH = 3;
+
+    private LocalSearch() {
+    }
+
+    /**
+     * @param order 방문 순서 (제자리에서 수정됨)
+     * @param distance 거리 함수
+     * @param deadlineNanos System.nanoTime() 기준 종료 시각
+     * @return 개선된 순서 (order와 같은 배열)
+     */
+    public static int[] improve(int[] order, DistanceFunction distance, long deadlineNanos) {
+        return improve(order, distance, deadlineNanos, false);
+    }
+
+    /**
+     * @param fixedEnd 마지막 정점을 움직이지 않음 (도착지 고정)
+     */
+    public static int[] improve(int[] order, DistanceFunction distance, long deadlineNanos, boolean fixedEnd) {
+        // 도착지가 고정이면 마지막 정점 앞까지만 바꿀 수 있음
+        int limit = fixedEnd ? order.length - 1 : order.length;
+        boolean improved = true;
+        while (improved && System.nanoTime() < deadlineNanos) {
+            improved = twoOpt(order, limit, distance, deadlineNanos);
+            improved |= orOpt(order, limit, distance, deadlineNanos);
+        }
+        return order;
+    }
+
+    // 2-opt: 뒤집어서 짧아지는 구간을 찾으면 바로 반영 (first-improvement)
+    private static boolean twoOpt(int[] order, int limit, DistanceFunction distance, long deadlineNanos) {
+        int n = order.length;
+        boolean improved = false;
+        for (int i = 1; i < limit - 1; i++) {
+            if (System.nanoTime() >= deadlineNanos) {
+                break;
+            }
+            int before = order[i - 1];
+            int first = order[i];
+            for (int j = i + 1; j < limit; j++) {
+                int last = order[j];
+                int after = j + 1 < n ? order[j + 1] : -1;
+
+                double delta = distance.between(before, last) - distance.between(before, first)
+                        + edge(distance, first, after) - edge(distance, last, after);
+                if (delta < -EPSILON) {
+                    reverse(order, i, j);
+                    first = order[i];
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    // Or-opt: 1~3개 연속 정점을 다른 위치로 옮겨서 짧아지면 반영
+    private static boolean orOpt(int[] order, int limit, DistanceFunction distance, long deadlineNanos) {
+        int n = order.length;
+        boolean improved = false;
+        for (int length = 1; length <= MAX_SEGMENT_LENGTH; length++) {
+            for (int i = 1; i + length - 1 < limit; i++) {
+                if (System.nanoTime() >= deadlineNanos) {
+                    return improved;
+                }
+                int end = i + length - 1;
+                int prev = order[i - 1];
+                int head = order[i];
+                int tail = order[end];
+                int next = end + 1 < n ? order[end + 1] : -1;
+
+                // 구간을 떼어낼 때 줄어드는 거리
+                double removeGain = distance.between(prev, head) + edge(distance, tail, next) - edge(distance, prev, next);
+                if (removeGain <= EPSILON) {
+                    continue;
+                }
+
+                int bestPosition = -1;
+                boolean bestReversed = false;
+                double bestDelta = -EPSILON;
+                // 도착지가 고정이면 마지막 정점 뒤에는 끼우지 않음
+                for (int k = 0; k < limit; k++) {
+                    // 원래 자리(prev 뒤)와 구간 내부는 제외
+                    if (k >= i - 1 && k <= end) {
+                        continue;
+                    }
+                    int u = order[k];
+                    int v = k + 1 < n ? order[k + 1] : -1;
+                    double base = edge(distance, u, v);
+                    double forward = distance.between(u, head) + edge(distance, tail, v) - base - removeGain;
+                    double reversed = distance.between(u, tail) + edge(distance, head, v) - base - removeGain;
+                    if (forward < bestDelta) {
+                        bestDelta = forward;
+                        bestPosition = k;
+                        bestReversed = false;
+                    }
+                    if (reversed < bestDelta) {
+                        bestDelta = reversed;
+                        bestPosition = k;
+                        bestReversed = true;
+                    }
+                }
+
+                if (bestPosition >= 0) {
+                    moveSegment(order, i, end, bestPosition, bestReversed);
+                    improved = true;
+                }
+            }
+        }
+        return improved;
+    }
+
+    // 열린 경로의 끝(-1)과 잇는 간선은 거리 0
+    private static double edge(DistanceFunction distance, int from, int to) {
+        return from < 0 || to < 0 ? 0 : distance.between(from, to);
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int tmp = order[from];
+            order[from++] = order[to];
+            order[to--] = tmp;
+        }
+    }
+
+    // order[start..end] 구간을 떼어서 원래 order[position] 정점 뒤에 끼움
+    private static void moveSegment(int[] order, int start, int end, int position, boolean reversed) {
+        int length = end - start + 1;
+        int[] segment = new int[length];
+        for (int s = 0; s < length; s++) {
+            segment[s] = reversed ? order[end - s] : order[start + s];
+        }
+
+        int[] rest = new int[order.length - length];
+        int r = 0;
+        int insertAt = -1;
+        for (int k = 0; k < order.length; k++) {
+            if (k >= start && k <= end) {
+                continue;
+            }
+            rest[r++] = order[k];
+            if (k == position) {
+                insertAt = r;
+            }
+        }
+
+        int w = 0;
+        for (int k = 0; k < rest.length; k++) {
+            if (k == insertAt) {
+                for (int value : segment) {
+                    order[w++] = value;
+                }
+            }
+            order[w++] = rest[k];
+        }
+        if (insertAt == rest.length) {
+            for (int value : segment) {
+                order[w++] = value;
+            }
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.podo.server.route;
+
+/**
+ * 탐욕법(Nearest Neighbor) 경로 생성
+ *
+ * - 출발 정점에서 시작해 아직 방문하지 않은 가장 가까운 정점으로 계속 이동
+ * - 방문 여부는 boolean[]으로 표시 (리스트에서 삭제하지 않으므로 단계마다 O(N) 추가 비용 없음)
+ * - 시간 복잡도: O(N²)
+ */
+public final class NearestNeighbor {
+
+    private NearestNeighbor() {
+    }
+
+    public static int[] solve(DistanceFunction distance, int size, int start) {
+        return solve(distance, size, start, -1);
+    }
+
+    /**
+     * @param distance 거리 함수 (정점 0..size-1)
+     * @param size 정점 수
+     * @param start 출발 정점
+     * @param end 도착 정점 (-1이면 자유) - 탐색에서 빼 두었다가 맨 마지막에 방문
+     * @return 방문 순서
+     */
+    public static int[] solve(DistanceFunction distance, int size, int start, int end) {
+        int[] order = new int[size];
+        boolean[] visited = new boolean[size];
+        order[0] = start;
+        visited[start] = true;
+
+        int steps = size;
+        if (end >= 0 && end != start) {
+            visited[end] = true;
+            order[size - 1] = end;
+            steps = size - 1;
+        }
+
+        int current = start;
+        for (int step = 1; step < steps; step++) {
+            int nearest = -1;
+            double minDistance = Double.MAX_VALUE;
+            for (int candidate = 0; candidate < size; candidate++) {
+                if (visited[candidate]) {
+                    continue;
+                }
+                double d = distance.between(current, candidate);
+                if (d < minDistance) {
+                    minDistance = d;
+                    nearest = candidate;
+                }
+            }
+            order[step] = nearest;
+            visited[nearest] = true;
+            current = nearest;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,11 @@
+package com.podo.server.route;
+
+/**
+ * 동선 최적화 작업 상태
+ */
+public enum RouteJobStatus {
+    QUEUED,     // 작업 풀 대기열에서 대기 중
+    RUNNING,    // 계산/저장 중
+    COMPLETED,  // 완료 (결과 포함)
+    FAILED      // 실패 (오류 메시지 포함)
+}
@@ -0,0 +1,27 @@
+package com.podo.server.route;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * 동선 최적화 옵션
+ *
+ * - startScheduleId: 출발 일정 (없으면 그날 가장 이른 시간의 일정)
+ * - endScheduleId: 마지막 일정 (예: 숙소, 없으면 도착지 자유)
+ * - roundTrip: 마지막에 출발지로 돌아오는 거리까지 포함 (endScheduleId보다 우선)
+ *
+ * 💡 equals: 같은 날 진행 중인 작업에 합류할 수 있는지(같은 조건인지) 비교할 때 사용
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class RouteOptions {
+    private Long startScheduleId;
+    private Long endScheduleId;
+    private boolean roundTrip;
+
+    public static RouteOptions defaults() {
+        return new RouteOptions(null, null, false);
+    }
+}
@@ -0,0 +1,25 @@
+package com.podo.server.route;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 계산된 하루 동선 ("routePreviews" 캐시에 저장되는 값)
+ *
+ * - order: 방문 순서 (좌표를 위도/경도/일정 ID 순으로 정렬한 정점 번호 기준)
+ * - legCost: 각 정점까지 직전 정점에서 이동한 비용 (order와 같은 순서, 첫 정점은 0)
+ * - totalCost: 전체 이동 비용 (왕복이면 돌아오는 구간 포함)
+ * - 비용 단위는 거리 공급자에 따라 km 또는 분 (RoutePlanService.unit())
+ *
+ * 💡 일정 ID가 아닌 정렬된 정점 번호로 저장 → 좌표가 같으면 시간 순서가 바뀌어도 같은 계산 결과 재사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoutePlan {
+    private int[] order;
+    private double[] legCost;
+    private double totalCost;
+    private RouteStrategy strategy;
+}
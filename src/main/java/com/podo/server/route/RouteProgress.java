@@ -0,0 +1,15 @@
+package com.podo.server.route;
+
+/**
+ * 동선 최적화 진행률 알림 (0~100)
+ *
+ * 💡 비동기 작업(RouteOptimizationJobService)이 진행률을 조회 API로 보여줄 때 사용
+ */
+@FunctionalInterface
+public interface RouteProgress {
+
+    RouteProgress NONE = percent -> {
+    };
+
+    void report(int percent);
+}
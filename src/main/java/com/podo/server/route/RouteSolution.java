@@ -0,0 +1,14 @@
+package com.podo.server.route;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 경로 계산 결과 (방문 순서 + 사용한 계산 방식)
+ */
+@Getter
+@AllArgsConstructor
+public class RouteSolution {
+    private int[] order;
+    private RouteStrategy strategy;
+}
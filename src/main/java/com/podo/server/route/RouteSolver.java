@@ -0,0 +1,93 @@
+package com.podo.server.route;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로 계산기 (정점 수와 시간 예산에 따라 계산 방식 선택)
+ *
+ * 📌 선택 기준:
+ * 1. 정점 ≤ exactMaxStops (기본 12): Held-Karp 정확해
+ * 2. 정점 ≤ localSearchMaxStops: 탐욕법 + 2-opt / Or-opt 개선 (시간 예산 안에서)
+ * 3. 그보다 많으면: 탐욕법만
+ *
+ * 📍 출발/도착 고정:
+ * - 출발 정점을 주면 그 정점이 처음, -1이면 자유 (모든 정점과 거리 0인 가상 출발점을 추가해서 계산)
+ * - 도착 정점을 주면 그 정점이 마지막 (예: 숙소)
+ * - 왕복(roundTrip)은 출발지의 복사본을 도착 정점으로 추가해서 계산 → 돌아오는 거리까지 최소화
+ */
+public class RouteSolver {
+
+    private final int exactMaxStops;
+    private final int localSearchMaxStops;
+    private final long timeBudgetMillis;
+
+    public RouteSolver(int exactMaxStops, int localSearchMaxStops, long timeBudgetMillis) {
+        this.exactMaxStops = Math.min(exactMaxStops, HeldKarp.MAX_SIZE - 1);
+        this.localSearchMaxStops = localSearchMaxStops;
+        this.timeBudgetMillis = timeBudgetMillis;
+    }
+
+    /**
+     * @param distance 거리 함수 (정점 0..size-1)
+     * @param size 정점 수
+     * @param start 출발 정점 (-1이면 자유, roundTrip이면 0번 사용)
+     * @param end 도착 정점 (-1이면 자유, roundTrip이면 무시)
+     * @param roundTrip 출발지로 돌아오는 경로 여부
+     * @return 방문 순서 (왕복이어도 출발지는 맨 앞에 한 번만 포함)
+     */
+    public RouteSolution solve(DistanceFunction distance, int size, int start, int end, boolean roundTrip) {
+        if (start < 0 && roundTrip) {
+            start = 0; // 왕복은 어디서 출발해도 같은 순환 경로
+        }
+        if (roundTrip) {
+            int origin = start;
+            // 정점 size번 = 출발지 복사본 (도착지로 고정)
+            DistanceFunction withReturn = (a, b) -> distance.between(a == size ? origin : a, b == size ? origin : b);
+            RouteSolution solution = solve(withReturn, size + 1, origin, size, size);
+            return new RouteSolution(Arrays.copyOf(solution.getOrder(), size), solution.getStrategy());
+        }
+        if (start < 0) {
+            // 정점 size번 = 가상 출발점 (모든 정점과 거리 0) → 결과 맨 앞에서 제거
+            DistanceFunction withDepot = (a, b) -> a == size || b == size ? 0 : distance.between(a, b);
+            RouteSolution solution = solve(withDepot, size + 1, size, end, size);
+            return new RouteSolution(Arrays.copyOfRange(solution.getOrder(), 1, size + 1), solution.getStrategy());
+        }
+        return solve(distance, size, start, end, size);
+    }
+
+    /**
+     * 탐욕법만 쓰는 입력인지 (정점 쌍마다 거리를 한두 번만 읽음 → 호출하는 쪽은 행렬 대신 즉석 계산 거리 함수 사용)
+     *
+     * @param stops 실제 일정 수 (가상 출발점/왕복용 복사본 제외)
+     */
+    public boolean isGreedyOnly(int stops) {
+        return stops > exactMaxStops && stops > localSearchMaxStops;
+    }
+
+    /**
+     * 경로 길이 (왕복이면 출발지로 돌아오는 거리 포함)
+     */
+    public static double length(DistanceFunction distance, int[] order, boolean roundTrip) {
+        double total = distance.pathLength(order);
+        if (roundTrip && order.length > 1) {
+            total += distance.between(order[order.length - 1], order[0]);
+        }
+        return total;
+    }
+
+    private RouteSolution solve(DistanceFunction distance, int size, int start, int end, int stops) {
+        if (stops <= exactMaxStops) {
+            return new RouteSolution(HeldKarp.solve(distance, size, start, end), RouteStrategy.EXACT);
+        }
+
+        int[] order = NearestNeighbor.solve(distance, size, start, end);
+        if (stops > localSearchMaxStops) {
+            return new RouteSolution(order, RouteStrategy.GREEDY);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        LocalSearch.improve(order, distance, deadline, end >= 0);
+        return new RouteSolution(order, RouteStrategy.LOCAL_SEARCH);
+    }
+}
@@ -0,0 +1,10 @@
+package com.podo.server.route;
+
+/**
+ * 경로 계산 방식 (RouteSolver가 정점 수에 따라 선택)
+ */
+public enum RouteStrategy {
+    EXACT,          // Held-Karp 정확해 (정점이 적을 때)
+    LOCAL_SEARCH,   // 탐욕법 + 2-opt / Or-opt 개선 (시간 예산 안에서)
+    GREEDY          // 탐욕법만 (정점이 아주 많을 때 가장 빠른 경로)
+}
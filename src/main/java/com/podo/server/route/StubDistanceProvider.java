@@ -0,0 +1,50 @@
+package com.podo.server.route;
+
+/**
+ * 외부 호출 없는 도로 흉내 공급자 (로컬 개발/테스트용, km)
+ *
+ * 📌 계산 방식: 남북 거리 + 동서 거리(중간 위도 기준) - 격자 도로처럼 직선보다 항상 길거나 같음
+ *
+ * 💡 결과가 항상 같아서 카카오 API 키 없이도 도로 공급자를 쓰는 흐름(캐시 키, 단위 표시 등)을 확인할 수 있음
+ */
+public class StubDistanceProvider implements DistanceProvider {
+
+    public static final String NAME = "stub";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public String unit() {
+        return "km";
+    }
+
+    @Override
+    public DistanceFunction matrix(double[] latitudes, double[] longitudes) {
+        int n = latitudes.length;
+        double[] values = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double value = cost(latitudes, longitudes, i, j);
+                values[i * n + j] = value;
+                values[j * n + i] = value;
+            }
+        }
+        return (from, to) -> values[from * n + to];
+    }
+
+    @Override
+    public DistanceFunction onDemand(double[] latitudes, double[] longitudes) {
+        return (from, to) -> from == to ? 0 : cost(latitudes, longitudes, from, to);
+    }
+
+    // 동서 거리는 두 지점의 중간 위도에서 측정 → 정점 번호 순서와 무관하게 같은 값 (대칭)
+    private static double cost(double[] latitudes, double[] longitudes, int i, int j) {
+        double middleLatitude = (latitudes[i] + latitudes[j]) / 2;
+        double northSouth = DistanceMatrix.haversineKm(latitudes[i], longitudes[i], latitudes[j], longitudes[i]);
+        double eastWest = DistanceMatrix.haversineKm(middleLatitude, longitudes[i], middleLatitude, longitudes[j]);
+        return northSouth + eastWest;
+    }
+}
@@ -0,0 +1,54 @@
+package com.podo.server.security;
+
+import com.podo.server.entity.Role;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * JWT 인증 필터 (Spring Security 필터 체인에 등록)
+ *
+ * 🎯 목적: 요청당 한 번만 토큰을 검증하고, 결과(JwtPrincipal)를 SecurityContext에 저장
+ *         → 컨트롤러는 @AuthenticationPrincipal JwtPrincipal 로 바로 받아서 사용
+ *
+ * 📌 동작 흐름:
+ * 1. Authorization: Bearer {token} 헤더 확인 (없으면 익명 요청으로 통과)
+ * 2. JwtUtil.verify()로 토큰 검증 (검증 결과 캐시 사용)
+ * 3. 토큰의 "role" 클레임을 권한(ROLE_USER / ROLE_ADMIN)으로 변환 → DB 조회 없음
+ *
+ * ⚠️ 토큰이 잘못돼도 여기서 차단하지 않음 (인증 정보 없이 통과)
+ *    → 접근 제어는 SecurityConfig 규칙과 SessionInterceptor가 담당
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtUtil jwtUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authHeader = request.getHeader("Authorization");
+
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            JwtPrincipal principal = jwtUtil.verify(authHeader.substring(7));
+            if (principal != null) {
+                // role 클레임이 없는 구버전 토큰은 일반 사용자로 취급
+                Role role = principal.getRole() != null ? principal.getRole() : Role.USER;
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal, null, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,29 @@
+package com.podo.server.security;
+
+import com.podo.server.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT에서 꺼낸 사용자 정보
+ *
+ * 🎯 목적: 토큰을 한 번만 파싱하고, 이후에는 이 객체로 이메일/권한/만료 시각을 꺼내 씀
+ *
+ * - email: 토큰 subject (로그인 아이디)
+ * - role: "role" 클레임 (클레임이 없는 구버전 토큰이면 null)
+ * - expiresAt: 토큰 만료 시각
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+
+    private final String email;
+    private final Role role;
+    private final Instant expiresAt;
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
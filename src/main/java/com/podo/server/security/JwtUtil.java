@@ -1,11 +1,23 @@
 package com.podo.server.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.podo.server.entity.Role;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 @Component
 public class JwtUtil {
@@ -13,31 +25,150 @@ public class JwtUtil {
     private static final String SECRET_KEY = "podo_travel_app_secret_key_must_be_very_long_random_string";
     private static final long EXPIRATION_TIME = 86400000; // 24시간 (1일)
 
+    /**
+     * 무상태(stateless) 토큰 모드
+     * - false (기본): 24시간 토큰 + 요청마다 Redis 세션 확인 (10분 미활동 로그아웃)
+     * - true: 수 분짜리 액세스 토큰 + 리프레시 토큰 → 평소 요청은 Redis 없이 서명만 검증,
+     *         Redis는 /api/auth/refresh(토큰 교체)와 로그아웃 때만 사용
+     */
+    @Value("${security.token.stateless:false}")
+    private boolean statelessMode;
+
+    // 무상태 모드의 액세스 토큰 유효시간 (분)
+    @Value("${security.token.access-ttl-minutes:5}")
+    private long accessTokenTtlMinutes;
+
+    // 검증 결과 캐시 설정 (최대 1만 개 토큰, 토큰 만료 시각과 10분 중 빠른 쪽에 제거)
+    private static final long VERIFIED_CACHE_MAX_SIZE = 10_000;
+    private static final Duration VERIFIED_CACHE_MAX_TTL = Duration.ofMinutes(10);
+
     private final Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
 
-    // 1. 토큰 생성 (로그인 성공 시)
-    public String generateToken(String email) {
+    // 파서는 thread-safe 하므로 한 번만 만들어서 재사용
+    private final JwtParser parser = Jwts.parserBuilder().setSigningKey(key).build();
+
+    // 토큰 SHA-256 다이제스트 → 검증된 사용자 정보
+    private final Cache<String, JwtPrincipal> verifiedCache = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_CACHE_MAX_SIZE)
+            .expireAfter(new PrincipalExpiry())
+            .recordStats()
+            .build();
+
+    // 1. 토큰 생성 (로그인 성공 시) - 권한(role)을 클레임에 포함하여 권한 확인 시 DB 조회 생략
+    public String generateToken(String email, Role role) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim("role", role.name())
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME))
+                .setExpiration(new Date(System.currentTimeMillis() + getAccessTokenTtlMillis()))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // 토큰 유효시간 (무상태 모드면 짧은 액세스 토큰, 아니면 24시간)
+    public long getAccessTokenTtlMillis() {
+        return statelessMode ? Duration.ofMinutes(accessTokenTtlMinutes).toMillis() : EXPIRATION_TIME;
+    }
+
+    public boolean isStatelessMode() {
+        return statelessMode;
+    }
+
     // 2. 토큰에서 이메일 추출
     public String getEmail(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(token).getBody().getSubject();
+        JwtPrincipal principal = verify(token);
+        if (principal == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return principal.getEmail();
     }
 
     // 3. 토큰 유효성 검사
     public boolean validateToken(String token) {
+        return verify(token) != null;
+    }
+
+    /**
+     * 4. 토큰 검증 + 사용자 정보 추출 (한 번에 처리)
+     *
+     * @param token JWT 토큰
+     * @return 검증된 사용자 정보, 서명/만료/형식이 잘못된 토큰이면 null
+     *
+     * 💡 동작 원리:
+     * - 같은 토큰은 캐시에서 바로 반환 (HMAC 서명 검증 + JSON 파싱 생략)
+     * - 캐시 키는 토큰 원문이 아닌 SHA-256 다이제스트 (메모리 절약 + 토큰 원문 미보관)
+     * - 캐시 항목은 토큰 만료 시각이 지나면 함께 사라짐
+     * - 검증 실패한 토큰은 캐시하지 않음
+     */
+    public JwtPrincipal verify(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        String digest = digest(token);
+        JwtPrincipal cached = verifiedCache.getIfPresent(digest);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            JwtPrincipal principal = new JwtPrincipal(
+                    claims.getSubject(),
+                    parseRole(claims.get("role", String.class)),
+                    claims.getExpiration().toInstant()
+            );
+            verifiedCache.put(digest, principal);
+            return principal;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
+        }
+    }
+
+    // 5. 검증 캐시 적중/미적중 통계
+    public CacheStats getVerifiedCacheStats() {
+        return verifiedCache.stats();
+    }
+
+    private Role parseRole(String role) {
+        if (role == null) {
+            return null;
+        }
+        try {
+            return Role.valueOf(role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // 캐시 항목 수명 = min(토큰 남은 유효시간, 최대 TTL)
+    private static class PrincipalExpiry implements Expiry<String, JwtPrincipal> {
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal value, long currentTime) {
+            Duration remaining = Duration.between(Instant.now(), value.getExpiresAt());
+            if (remaining.isNegative()) {
+                return 0;
+            }
+            return Math.min(remaining.toNanos(), VERIFIED_CACHE_MAX_TTL.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
 }
@@ -1,10 +1,10 @@
 package com.podo.server.service;
 
+import com.podo.server.entity.Role;
 import com.podo.server.entity.Users;
 import com.podo.server.repository.UserRepository;
 import com.podo.server.security.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -14,9 +14,10 @@ import java.util.Optional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashService passwordHashService; // BCrypt 전용 스레드 풀
     private final JwtUtil jwtUtil;
     private final SessionService sessionService; // Redis 세션 관리
+    private final RefreshTokenService refreshTokenService; // 무상태 모드 리프레시 토큰
 
     // 회원가입 (무조건 일반 유저로 등록됨)
     public String signup(String email, String password, String nickname) {
@@ -25,7 +26,7 @@ public class AuthService {
         }
         // 비밀번호 암호화하여 저장
         // 주의: 이 생성자는 항상 Role.USER로 설정됨 (관리자는 DataLoader에서만 생성)
-        Users user = new Users(email, passwordEncoder.encode(password), nickname);
+        Users user = new Users(email, passwordHashService.encode(password), nickname);
         userRepository.save(user);
         return "회원가입 성공!";
     }
@@ -41,16 +42,21 @@ public class AuthService {
         Users user = userOpt.get();
 
         // 암호화된 비밀번호 검증
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashService.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 잘못되었습니다.");
         }
 
         return user;
     }
 
-    // JWT 토큰 생성 및 Redis 세션 저장
-    public String generateToken(String email) {
-        String token = jwtUtil.generateToken(email);
+    // JWT 토큰 생성 (권한 포함) 및 Redis 세션 저장
+    public String generateToken(String email, Role role) {
+        String token = jwtUtil.generateToken(email, role);
+
+        // 무상태 모드: 짧은 액세스 토큰만 발급 (미활동 로그아웃은 리프레시 토큰 TTL이 담당)
+        if (jwtUtil.isStatelessMode()) {
+            return token;
+        }
 
         // ✨ Redis에 세션 저장 (TTL: 10분)
         // 사용자가 10분간 활동하지 않으면 자동으로 세션이 만료됨
@@ -59,9 +65,29 @@ public class AuthService {
         return token;
     }
 
-    // 로그아웃 (Redis 세션 삭제)
+    // 리프레시 토큰 발급 (무상태 모드에서 로그인 시)
+    public String issueRefreshToken(String email, Role role) {
+        return refreshTokenService.issue(email, role);
+    }
+
+    // 리프레시 토큰 교체 (만료/폐기/재사용된 토큰이면 예외)
+    public RefreshTokenService.Rotation refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        if (rotation == null) {
+            throw new IllegalArgumentException("세션이 만료되었습니다. 다시 로그인해주세요.");
+        }
+        return rotation;
+    }
+
+    // 무상태 모드 여부 (로그인 응답에 리프레시 토큰 포함할지 결정)
+    public boolean isStatelessMode() {
+        return jwtUtil.isStatelessMode();
+    }
+
+    // 로그아웃 (Redis 세션 + 리프레시 토큰 삭제)
     public void logout(String email) {
         sessionService.deleteSession(email);
+        refreshTokenService.revoke(email);
     }
 
     // 토큰에서 이메일 추출
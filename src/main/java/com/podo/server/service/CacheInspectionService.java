@@ -0,0 +1,106 @@
+package com.podo.server.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 크기 점검 서비스 (관리자용)
+ *
+ * 🎯 목적: Redis 메모리 산정과 TTL 조정을 위해 어떤 캐시 키가 큰지 확인
+ *
+ * 📌 동작 방식:
+ * 1. SCAN으로 "{캐시 이름}::*" 키를 훑음 (KEYS와 달리 Redis를 막지 않음, 최대 개수 제한)
+ * 2. STRLEN을 파이프라인으로 한 번에 조회 (저장된 직렬화 값의 바이트 크기)
+ * 3. 크기 순으로 상위 N개 반환
+ *
+ * 💡 서버별 기록이 아닌 Redis 실제 값을 보므로 서버가 여러 대여도 전체 기준
+ * ⚠️ 등록된 캐시 이름만 허용 (임의 패턴으로 다른 Redis 키를 훑지 않도록), limit은 1 ~ MAX_LIMIT
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheInspectionService {
+
+    // SCAN 한 번에 가져오는 키 개수 힌트
+    private static final int SCAN_BATCH_SIZE = 500;
+
+    // 한 번에 반환하는 최대 키 개수
+    private static final int MAX_LIMIT = 100;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheManager cacheManager;
+
+    // 한 번 점검할 때 훑는 최대 키 개수 (너무 많으면 관리자 요청이 오래 걸림)
+    @Value("${cache.inspection.max-scan-keys:10000}")
+    private int maxScanKeys;
+
+    /**
+     * 캐시 값 크기 상위 키 조회
+     *
+     * @param cacheName 캐시 이름 (예: schedules)
+     * @param limit 반환할 키 개수 (1 이상, MAX_LIMIT 초과 시 MAX_LIMIT)
+     * @return cache, scannedKeys, totalBytes, topKeys([{key, bytes}])
+     * @throws IllegalArgumentException 등록되지 않은 캐시 이름이거나 limit < 1
+     */
+    public Map<String, Object> topKeysBySize(String cacheName, int limit) {
+        if (!cacheManager.getCacheNames().contains(cacheName)) {
+            throw new IllegalArgumentException("알 수 없는 캐시 이름입니다: " + cacheName);
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit은 1 이상이어야 합니다: " + limit);
+        }
+        limit = Math.min(limit, MAX_LIMIT);
+
+        List<String> keys = scanKeys(cacheName + "::*");
+
+        List<Object> sizes = keys.isEmpty() ? List.of() : redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.stringCommands().strLen(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        });
+
+        List<Map<String, Object>> entries = new ArrayList<>();
+        long totalBytes = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            long bytes = sizes.get(i) instanceof Long size ? size : 0;
+            totalBytes += bytes;
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("key", keys.get(i));
+            entry.put("bytes", bytes);
+            entries.add(entry);
+        }
+        entries.sort(Comparator.comparingLong((Map<String, Object> entry) -> (Long) entry.get("bytes")).reversed());
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cache", cacheName);
+        result.put("scannedKeys", keys.size());
+        result.put("totalBytes", totalBytes);
+        result.put("topKeys", entries.subList(0, Math.min(limit, entries.size())));
+        return result;
+    }
+
+    private List<String> scanKeys(String pattern) {
+        List<String> keys = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext() && keys.size() < maxScanKeys) {
+                keys.add(cursor.next());
+            }
+        }
+        return keys;
+    }
+}
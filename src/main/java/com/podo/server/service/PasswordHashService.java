@@ -0,0 +1,75 @@
+package com.podo.server.service;
+
+import com.podo.server.exception.PasswordHashBusyException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.*;
+
+/**
+ * 비밀번호 해싱 서비스
+ *
+ * 🎯 목적: CPU를 많이 쓰는 BCrypt 연산을 전용 스레드 풀(passwordHashExecutor)에서 실행하여
+ *         로그인이 몰려도 Tomcat 요청 스레드가 CPU를 독점하지 않도록 함
+ *
+ * 📌 동작 방식:
+ * - 동시에 실행되는 해싱은 풀 크기(기본: CPU 코어 수)로 제한
+ * - 대기열이 가득 차면 기다리지 않고 즉시 PasswordHashBusyException (→ 503)
+ * - 대기열에서 security.password-hash.timeout-millis 이상 기다려도 PasswordHashBusyException
+ */
+@Slf4j
+@Service
+public class PasswordHashService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final long timeoutMillis;
+
+    public PasswordHashService(PasswordEncoder passwordEncoder,
+                               @Qualifier("passwordHashExecutor") ThreadPoolTaskExecutor executor,
+                               @Value("${security.password-hash.timeout-millis:5000}") long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    // 1. 비밀번호 암호화 (회원가입, 관리자 계정 생성)
+    public String encode(String rawPassword) {
+        return await(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 2. 비밀번호 검증 (로그인)
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T await(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 비밀번호 해싱 대기열 포화 - 요청 거절 (active={}, queued={})",
+                    executor.getActiveCount(), executor.getQueueSize());
+            throw new PasswordHashBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new PasswordHashBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", e.getCause());
+        }
+    }
+}
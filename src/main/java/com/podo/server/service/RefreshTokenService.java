@@ -0,0 +1,112 @@
+package com.podo.server.service;
+
+import com.podo.server.entity.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 관리 서비스 (무상태 토큰 모드 전용)
+ *
+ * 🎯 목적: 액세스 토큰을 몇 분짜리로 짧게 발급하고, 만료되면 리프레시 토큰으로 교체하여
+ *         평소 API 요청에서는 Redis를 전혀 조회하지 않도록 함
+ *
+ * 📌 주요 기능:
+ * 1. issue(): 로그인 시 리프레시 토큰 발급 (TTL = 미활동 로그아웃 시간)
+ * 2. rotate(): 리프레시 토큰 1회 사용 후 폐기 + 새 토큰 발급 (재사용 불가)
+ * 3. revoke(): 로그아웃 시 사용자의 리프레시 토큰 폐기
+ *
+ * 🔑 Redis Key 형식:
+ * - "refresh:{token}" → "{ROLE}:{email}"
+ * - "refresh:user:{email}" → 현재 리프레시 토큰 (로그아웃 시 찾아서 삭제)
+ *
+ * 💡 미활동 로그아웃: 리프레시 토큰 TTL이 10분이므로, 10분 동안 토큰 교체가 없으면 다시 로그인해야 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    // 리프레시 토큰 유효시간 (분) - 이 시간 동안 교체 요청이 없으면 자동 로그아웃
+    @Value("${security.token.refresh-ttl-minutes:10}")
+    private long refreshTtlMinutes;
+
+    private String getTokenKey(String refreshToken) {
+        return "refresh:" + refreshToken;
+    }
+
+    private String getUserKey(String email) {
+        return "refresh:user:" + email;
+    }
+
+    /**
+     * 1️⃣ 리프레시 토큰 발급 (로그인 시)
+     * 같은 사용자의 이전 리프레시 토큰은 폐기 (세션과 동일하게 사용자당 1개)
+     */
+    public String issue(String email, Role role) {
+        revoke(email);
+
+        byte[] bytes = new byte[32];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        redisTemplate.opsForValue().set(getTokenKey(refreshToken), role.name() + ":" + email, refreshTtlMinutes, TimeUnit.MINUTES);
+        redisTemplate.opsForValue().set(getUserKey(email), refreshToken, refreshTtlMinutes, TimeUnit.MINUTES);
+        log.info("✅ 리프레시 토큰 발급: {} (TTL: {}분)", email, refreshTtlMinutes);
+        return refreshToken;
+    }
+
+    /**
+     * 2️⃣ 리프레시 토큰 교체
+     *
+     * @return 토큰 주인 정보 + 새 리프레시 토큰, 만료/폐기/이미 사용된 토큰이면 null
+     *
+     * 💡 GETDEL로 꺼내면서 바로 삭제 → 같은 토큰으로 두 번 교체할 수 없음
+     */
+    public Rotation rotate(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return null;
+        }
+
+        String value = redisTemplate.opsForValue().getAndDelete(getTokenKey(refreshToken));
+        if (value == null) {
+            log.warn("⚠️ 만료되었거나 이미 사용된 리프레시 토큰");
+            return null;
+        }
+
+        int separator = value.indexOf(':');
+        Role role = Role.valueOf(value.substring(0, separator));
+        String email = value.substring(separator + 1);
+
+        return new Rotation(email, role, issue(email, role));
+    }
+
+    /**
+     * 3️⃣ 리프레시 토큰 폐기 (로그아웃 시)
+     */
+    public void revoke(String email) {
+        String refreshToken = redisTemplate.opsForValue().getAndDelete(getUserKey(email));
+        if (refreshToken != null) {
+            redisTemplate.delete(getTokenKey(refreshToken));
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+        private final String email;
+        private final Role role;
+        private final String refreshToken;
+    }
+}
@@ -0,0 +1,178 @@
+package com.podo.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.podo.server.dto.RouteJobResponse;
+import com.podo.server.dto.RouteOptimizationResponse;
+import com.podo.server.dto.ScheduleOptimizedEvent;
+import com.podo.server.exception.RouteOptimizationBusyException;
+import com.podo.server.exception.RouteOptimizationConflictException;
+import com.podo.server.route.RouteJobStatus;
+import com.podo.server.route.RouteOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 동선 최적화 작업 관리
+ *
+ * 🎯 목적: 최적화 계산을 요청 스레드 밖(routeOptimizationExecutor)에서 실행하고,
+ *         여러 멤버가 동시에 같은 날을 최적화해도 계산은 한 번만 하도록 함
+ *         (중복 실행 시 Schedule.version 낙관적 락 충돌 방지)
+ *
+ * 📌 동작 방식:
+ * 1. 요청: "travelId-day" 키로 진행 중인 작업이 있으면 그 작업에 합류 (새 작업을 만들지 않음)
+ *    - 진행 중인 작업과 옵션(출발/도착/왕복)이 다르면 합류하지 않고 거절 (→ 409)
+ *      같은 날을 두 작업이 동시에 저장하면 낙관적 락 충돌이 나므로 다른 옵션 작업을 따로 띄우지 않음
+ * 2. 없으면 작업 ID(UUID)를 발급하고 작업 풀에 등록 → 바로 응답 (QUEUED)
+ * 3. 실행 중 진행률 갱신 → GET /api/schedules/jobs/{jobId} 로 조회
+ * 4. 완료/실패 시 /topic/travel/{travelId} 로 결과(새 방문 순서) 전송
+ *
+ * 💡 완료된 작업은 route.optimization.job-retention-minutes(기본 10분) 동안만 조회 가능
+ * 💡 대기열이 가득 차면 RouteOptimizationBusyException (→ 503)
+ */
+@Slf4j
+@Service
+public class RouteOptimizationJobService {
+
+    private static final long MAX_RETAINED_JOBS = 10_000;
+
+    private final RouteService routeService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ThreadPoolTaskExecutor executor;
+
+    // "travelId-day" → 진행 중인 작업 (완료되면 제거)
+    private final ConcurrentMap<String, Job> activeJobs = new ConcurrentHashMap<>();
+
+    // 작업 ID → 작업 (완료 후에도 일정 시간 조회 가능)
+    private final Cache<String, Job> jobs;
+
+    public RouteOptimizationJobService(RouteService routeService,
+                                       SimpMessagingTemplate messagingTemplate,
+                                       @Qualifier("routeOptimizationExecutor") ThreadPoolTaskExecutor executor,
+                                       @Value("${route.optimization.job-retention-minutes:10}") long retentionMinutes) {
+        this.routeService = routeService;
+        this.messagingTemplate = messagingTemplate;
+        this.executor = executor;
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(MAX_RETAINED_JOBS)
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .build();
+    }
+
+    /**
+     * 하루 동선 최적화 작업 등록 (같은 날 작업이 진행 중이면 합류)
+     *
+     * @return 작업 상태 (joined=true면 이미 진행 중이던 작업)
+     * @throws RouteOptimizationConflictException 같은 날 다른 옵션의 작업이 진행 중
+     */
+    public RouteJobResponse submit(Long travelId, int day, RouteOptions options) {
+        String key = travelId + "-" + day;
+        Job created = new Job(UUID.randomUUID().toString(), travelId, day, options);
+        Job job = activeJobs.putIfAbsent(key, created);
+        if (job != null) {
+            if (!job.options.equals(options)) {
+                throw new RouteOptimizationConflictException(
+                        "같은 날 다른 조건의 동선 최적화가 진행 중입니다. 완료된 뒤 다시 시도해주세요.");
+            }
+            log.debug("Joining running optimization job {} for {}", job.id, key);
+            return job.toResponse(true);
+        }
+
+        jobs.put(created.id, created);
+        try {
+            executor.execute(() -> run(key, created));
+        } catch (RejectedExecutionException e) {
+            log.warn("⚠️ 동선 최적화 대기열 포화 - 요청 거절 (active={}, queued={})",
+                    executor.getActiveCount(), executor.getQueueSize());
+            created.fail("요청이 많아 잠시 후 다시 시도해주세요.");
+            activeJobs.remove(key, created);
+            throw new RouteOptimizationBusyException("요청이 많아 잠시 후 다시 시도해주세요.");
+        }
+        log.info("Route optimization job {} queued for {}", created.id, key);
+        return created.toResponse(false);
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public Optional<RouteJobResponse> find(String jobId) {
+        return Optional.ofNullable(jobs.getIfPresent(jobId)).map(job -> job.toResponse(false));
+    }
+
+    private void run(String key, Job job) {
+        job.status = RouteJobStatus.RUNNING;
+        ScheduleOptimizedEvent event;
+        try {
+            RouteOptimizationResponse result = routeService.optimizeRoute(job.travelId, job.day, job.options, job::progress);
+            job.complete(result);
+            event = ScheduleOptimizedEvent.completed(job.id, job.travelId, job.day, result);
+            log.info("Route optimization job {} completed", job.id);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            job.fail("누군가 먼저 수정했습니다. 새로고침 해주세요.");
+            event = ScheduleOptimizedEvent.failed(job.id, job.travelId, job.day, job.error);
+            log.warn("Route optimization job {} conflicted: {}", job.id, e.getMessage());
+        } catch (RuntimeException e) {
+            job.fail(e.getMessage());
+            event = ScheduleOptimizedEvent.failed(job.id, job.travelId, job.day, job.error);
+            log.error("Route optimization job {} failed", job.id, e);
+        } finally {
+            // Error(OutOfMemoryError 등)로 끝나도 그 날이 영원히 잠기지 않도록 항상 제거
+            // 알림 전에 먼저 제거 → 알림을 받고 다시 요청하면 새 작업으로 실행
+            if (job.status == RouteJobStatus.RUNNING) {
+                job.fail("동선 최적화 중 오류가 발생했습니다.");
+            }
+            activeJobs.remove(key, job);
+        }
+        messagingTemplate.convertAndSend("/topic/travel/" + job.travelId, event);
+    }
+
+    // 작업 상태 (작업 스레드가 쓰고 요청 스레드가 읽음 → volatile)
+    private static class Job {
+        private final String id;
+        private final Long travelId;
+        private final int day;
+        private final RouteOptions options;
+        private volatile RouteJobStatus status = RouteJobStatus.QUEUED;
+        private volatile int progress;
+        private volatile RouteOptimizationResponse result;
+        private volatile String error;
+
+        Job(String id, Long travelId, int day, RouteOptions options) {
+            this.id = id;
+            this.travelId = travelId;
+            this.day = day;
+            this.options = options;
+        }
+
+        void progress(int percent) {
+            progress = Math.max(progress, percent);
+        }
+
+        void complete(RouteOptimizationResponse result) {
+            this.result = result;
+            this.progress = 100;
+            this.status = RouteJobStatus.COMPLETED;
+        }
+
+        void fail(String error) {
+            this.error = error;
+            this.status = RouteJobStatus.FAILED;
+        }
+
+        RouteJobResponse toResponse(boolean joined) {
+            return new RouteJobResponse(id, travelId, day, status, progress, joined, result, error);
+        }
+    }
+}
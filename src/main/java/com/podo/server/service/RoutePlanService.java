@@ -0,0 +1,194 @@
+package com.podo.server.service;
+
+import com.podo.server.entity.Schedule;
+import com.podo.server.exception.InvalidRouteRequestException;
+import com.podo.server.route.DistanceFunction;
+import com.podo.server.route.DistanceProvider;
+import com.podo.server.route.RouteOptions;
+import com.podo.server.route.RoutePlan;
+import com.podo.server.route.RouteSolution;
+import com.podo.server.route.RouteSolver;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 하루 동선 계산 + 결과 캐싱 ("routePreviews")
+ *
+ * 🎯 목적: 미리보기를 여러 번 눌러도, 미리보기 후 실제 적용해도 같은 좌표라면 계산은 한 번만
+ *         (시간 예산 안에서 개선하는 계산이라 매번 결과가 조금씩 다를 수 있음 → 미리본 순서 그대로 적용)
+ *
+ * 📌 동작 방식:
+ * 1. 좌표가 있는 일정을 위도/경도/일정 ID 순으로 정렬 (시간 순서와 무관한 고정 순서)
+ * 2. 캐시 키 = SHA-256(거리 공급자 + 계산 설정 + 출발/도착/왕복 + 정렬된 좌표 목록)
+ * 3. 캐시에 있으면 재사용, 없으면 계산 후 저장 (같은 키 동시 요청은 한 번만 계산)
+ *
+ * 💡 좌표/설정이 하나라도 바뀌면 키가 달라지므로 별도 삭제 없이 TTL(10분)로 정리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoutePlanService {
+
+    public static final String CACHE_NAME = "routePreviews";
+    private static final int PLAN_FORMAT = 2; // RoutePlan 필드 구성이 바뀌면 올림 (이전 형식으로 저장된 캐시 값은 키가 달라져 무시)
+
+    private final CacheManager cacheManager;
+    private final DistanceProvider distanceProvider;
+
+    // 이 이하 일정 수는 Held-Karp 정확해 사용 (최대 15)
+    @Value("${route.exact.max-stops:12}")
+    private int exactMaxStops;
+
+    // 개선 단계(2-opt / Or-opt) 시간 예산 - 넘기면 그 시점까지 개선된 경로 사용
+    @Value("${route.local-search.time-budget-millis:200}")
+    private long localSearchBudgetMillis;
+
+    // 이보다 일정이 많으면 개선 단계 없이 탐욕법 결과만 사용 (가장 빠른 경로, 거리 행렬 없이 즉석 계산)
+    @Value("${route.local-search.max-stops:2000}")
+    private int localSearchMaxStops;
+
+    // 하루 동선 계산 최대 일정 수 - 넘으면 거리 계산 전에 거절 (400, 탐욕법도 O(N²) 시간)
+    @Value("${route.max-stops:5000}")
+    private int maxStops;
+
+    public RouteSolver newSolver() {
+        return new RouteSolver(exactMaxStops, localSearchMaxStops, localSearchBudgetMillis);
+    }
+
+    /**
+     * 하루 동선 계산 일정 수 확인 (행렬/계산 전에 호출)
+     *
+     * @throws InvalidRouteRequestException 일정이 route.max-stops보다 많음
+     */
+    public void requireWithinLimit(int stops) {
+        if (stops > maxStops) {
+            throw new InvalidRouteRequestException("하루 동선은 일정 " + maxStops + "개까지만 계산할 수 있습니다: " + stops);
+        }
+    }
+
+    /**
+     * 거리 단위 ("km" 또는 "min" - 거리 공급자에 따라 다름)
+     */
+    public String unit() {
+        return distanceProvider.unit();
+    }
+
+    /**
+     * 일정 목록 순서대로 이동한 거리 (현재 순서 비교용, 왕복이면 돌아오는 거리 포함)
+     */
+    public double pathLength(List<Schedule> schedules, boolean roundTrip) {
+        int n = schedules.size();
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = schedules.get(i).getY();
+            longitudes[i] = schedules.get(i).getX();
+        }
+        return distanceProvider.pathLength(latitudes, longitudes, roundTrip);
+    }
+
+    /**
+     * 하루 동선 계산 (캐시 우선)
+     *
+     * @param located 좌표가 있는 그날 일정 (시간순 - 출발지 기본값은 첫 일정)
+     * @param start 출발 일정 번호 (located 기준)
+     * @param end 도착 일정 번호 (located 기준, -1이면 자유)
+     * @param options 왕복 여부
+     * @return 일정 순서와 구간 거리
+     * @throws InvalidRouteRequestException 일정이 route.max-stops보다 많음
+     */
+    public PlannedRoute plan(List<Schedule> located, int start, int end, RouteOptions options) {
+        requireWithinLimit(located.size());
+        List<Schedule> canonical = new ArrayList<>(located);
+        canonical.sort(Comparator.comparingDouble(Schedule::getY)
+                .thenComparingDouble(Schedule::getX)
+                .thenComparing(Schedule::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+
+        int n = canonical.size();
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = canonical.get(i).getY();
+            longitudes[i] = canonical.get(i).getX();
+        }
+        int canonicalStart = canonical.indexOf(located.get(start));
+        int canonicalEnd = end < 0 ? -1 : canonical.indexOf(located.get(end));
+        boolean roundTrip = options.isRoundTrip();
+
+        String key = key(latitudes, longitudes, canonicalStart, canonicalEnd, roundTrip);
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        RoutePlan plan = cache == null
+                ? solve(latitudes, longitudes, canonicalStart, canonicalEnd, roundTrip)
+                : cache.get(key, () -> solve(latitudes, longitudes, canonicalStart, canonicalEnd, roundTrip));
+
+        List<Schedule> order = new ArrayList<>(n);
+        for (int index : plan.getOrder()) {
+            order.add(canonical.get(index));
+        }
+        return new PlannedRoute(order, plan);
+    }
+
+    private RoutePlan solve(double[] latitudes, double[] longitudes, int start, int end, boolean roundTrip) {
+        int n = latitudes.length;
+        RouteSolver solver = newSolver();
+        // 탐욕법만 쓰는 큰 입력은 N² 행렬(과 도로 거리 조회) 없이 즉석 계산
+        DistanceFunction distance = solver.isGreedyOnly(n)
+                ? distanceProvider.onDemand(latitudes, longitudes)
+                : distanceProvider.matrix(latitudes, longitudes);
+        RouteSolution solution = solver.solve(distance, n, start, end, roundTrip);
+        int[] order = solution.getOrder();
+
+        double[] legCost = new double[n];
+        for (int i = 1; i < n; i++) {
+            legCost[i] = distance.between(order[i - 1], order[i]);
+        }
+        double totalCost = RouteSolver.length(distance, order, roundTrip);
+        log.debug("Route planned ({}): {} stops, {}{}", solution.getStrategy(), n, totalCost, distanceProvider.unit());
+        return new RoutePlan(order, legCost, totalCost, solution.getStrategy());
+    }
+
+    // 계산 결과에 영향을 주는 값만 키에 포함 (좌표는 정렬된 순서, 전체 정밀도)
+    private String key(double[] latitudes, double[] longitudes, int start, int end, boolean roundTrip) {
+        StringBuilder source = new StringBuilder()
+                .append(PLAN_FORMAT).append('|')
+                .append(distanceProvider.name()).append('|')
+                .append(exactMaxStops).append('|')
+                .append(localSearchMaxStops).append('|')
+                .append(localSearchBudgetMillis).append('|')
+                .append(start).append('|')
+                .append(end).append('|')
+                .append(roundTrip);
+        for (int i = 0; i < latitudes.length; i++) {
+            source.append('|').append(latitudes[i]).append(',').append(longitudes[i]);
+        }
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(source.toString().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 일정 순서로 풀어낸 계산 결과
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class PlannedRoute {
+        private final List<Schedule> order;
+        private final RoutePlan plan;
+    }
+}
@@ -1,17 +1,41 @@
 package com.podo.server.service;
 
+import com.podo.server.dto.RouteOptimizationResponse;
+import com.podo.server.dto.RoutePreviewResponse;
+import com.podo.server.dto.TripOptimizationResponse;
 import com.podo.server.entity.Schedule;
+import com.podo.server.entity.Travels;
+import com.podo.server.exception.InvalidRouteRequestException;
 import com.podo.server.repository.ScheduleRepository;
+import com.podo.server.repository.TravelRepository;
+import com.podo.server.route.DayBalancer;
+import com.podo.server.route.DistanceFunction;
+import com.podo.server.route.DistanceMatrix;
+import com.podo.server.route.RouteOptions;
+import com.podo.server.route.RoutePlan;
+import com.podo.server.route.RouteProgress;
+import com.podo.server.route.RouteSolution;
+import com.podo.server.route.RouteSolver;
+import com.podo.server.route.RouteStrategy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 /**
  * Service for route optimization and schedule management.
@@ -22,33 +46,67 @@ import java.util.List;
 public class RouteService {
 
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleCacheService scheduleCacheService;
+    private final TravelRepository travelRepository;
+    private final ForkJoinPool routeSolverPool;
+    private final RoutePlanService routePlanService;
+    private final TransactionTemplate transactionTemplate;
+
+    // 여행 전체 최적화 시 하루 최대 일정 수 (0 = 일정 수 / 일수 올림, 너무 작으면 자동으로 늘림)
+    @Value("${route.trip.max-stops-per-day:0}")
+    private int tripMaxStopsPerDay;
+
+    // 일정 사이 간격 (분)
+    private static final long SLOT_MINUTES = 90;
+    private static final LocalTime DEFAULT_START_TIME = LocalTime.of(9, 0);
+
+    public RouteOptimizationResponse optimizeRoute(Long travelId, int day) {
+        return optimizeRoute(travelId, day, RouteOptions.defaults());
+    }
 
     /**
-     * Nearest Neighbor 알고리즘을 응용한 경로 최적화 로직.
-     * Haversine 공식을 사용하여 좌표 간 거리를 계산하고, Greedy 방식으로 최단 거리 경로를 재정렬함.
-     * (Time Complexity: O(N^2))
+     * 하루 동선 최적화
+     * 거리 행렬(기본 Haversine, route.distance.provider로 카카오 도로 거리 선택)을 한 번 만든 뒤, 일정 수에 따라 계산 방식을 골라 방문 순서를 재정렬함.
+     * - 12곳 이하: Held-Karp 정확해 (증명 가능한 최단 순서)
+     * - 그 이상: Nearest Neighbor(Greedy) + 2-opt / Or-opt 개선 (시간 예산 안에서)
+     * - 아주 많으면: Greedy만 (Time Complexity: O(N^2), 정점 번호(int)만 사용하여 박싱/리스트 삭제 없음)
+     * - 같은 좌표/설정으로 계산한 결과(미리보기 포함)가 있으면 routePreviews 캐시에서 재사용
+     *
+     * 🔒 트랜잭션: 조회와 계산(카카오 도로 거리 API 호출 포함)은 트랜잭션 밖에서 하고,
+     *    바뀐 일정 저장만 짧은 쓰기 트랜잭션으로 처리 (외부 호출 동안 DB 커넥션/락을 잡지 않음)
+     *    → 계산 중 다른 멤버가 일정을 수정했으면 저장 시 버전 충돌(ObjectOptimisticLockingFailureException)
      *
      * @param travelId The ID of the travel plan
      * @param day The specific day to optimize
+     * @param options 출발/도착 일정 고정, 왕복 여부
+     * @return 최적화 전/후 이동 비용 (단위는 unit - km 거리 또는 분)
      */
-    @Transactional
-    @CacheEvict(value = "schedules", key = "#travelId + '-' + #day")
-    public void optimizeRoute(Long travelId, int day) {
+    public RouteOptimizationResponse optimizeRoute(Long travelId, int day, RouteOptions options) {
+        return optimizeRoute(travelId, day, options, RouteProgress.NONE);
+    }
+
+    /**
+     * 하루 동선 최적화 (진행률 알림 포함 - 비동기 작업용)
+     *
+     * @param progress 단계별 진행률 (조회 10 → 출발/도착 30 → 계산 80 → 저장 95)
+     */
+    public RouteOptimizationResponse optimizeRoute(Long travelId, int day, RouteOptions options, RouteProgress progress) {
         log.info("Optimizing route for travelId: {}, day: {}", travelId, day);
 
         // 1. Retrieve all schedules for the specified day
         List<Schedule> allSchedules = scheduleRepository.findByTravel_TravelIdAndDayOrderByTimeAsc(travelId, day);
         if (allSchedules.size() <= 1) {
             log.debug("Not enough schedules to optimize (size: {})", allSchedules.size());
-            return;
+            return RouteOptimizationResponse.unchanged(allSchedules.size(), routePlanService.unit(), scheduleIds(allSchedules));
         }
+        progress.report(10);
 
         // 2. Filter schedules with valid coordinates
         List<Schedule> schedulesWithCoords = new ArrayList<>();
         List<Schedule> schedulesWithoutCoords = new ArrayList<>();
 
         for (Schedule s : allSchedules) {
-            if (s.getX() != null && s.getY() != null && s.getX() != 0.0 && s.getY() != 0.0) {
+            if (s.hasCoordinates()) {
                 schedulesWithCoords.add(s);
             } else {
                 schedulesWithoutCoords.add(s);
@@ -58,98 +116,358 @@ public class RouteService {
         // If no schedules with coordinates, cannot optimize
         if (schedulesWithCoords.isEmpty()) {
             log.warn("No schedules with valid coordinates to optimize");
-            return;
+            return RouteOptimizationResponse.unchanged(0, routePlanService.unit(), scheduleIds(allSchedules));
         }
 
-        // 3. Optimize only schedules with coordinates using Nearest Neighbor algorithm
-        List<Schedule> optimizedList = new ArrayList<>();
-        List<Schedule> remaining = new ArrayList<>(schedulesWithCoords);
-
-        // Start with the first schedule (keep it as the starting point)
-        Schedule current = remaining.remove(0);
-        optimizedList.add(current);
+        // 3. Pick start / end (default start: earliest schedule of the day, end: free)
+        int n = schedulesWithCoords.size();
+        int start = indexOf(schedulesWithCoords, options.getStartScheduleId(), 0);
+        int end = indexOf(schedulesWithCoords, options.getEndScheduleId(), -1);
+        if (end == start) {
+            end = -1;
+        }
+        progress.report(30);
 
-        // 4. Find nearest neighbors iteratively (Greedy approach)
-        while (!remaining.isEmpty()) {
-            Schedule nearest = null;
-            double minDistance = Double.MAX_VALUE;
+        // 4. Solve (exact for small days, greedy + local search otherwise)
+        //    같은 좌표/설정으로 미리보기한 결과가 캐시에 있으면 그대로 재사용
+        RoutePlanService.PlannedRoute planned = routePlanService.plan(schedulesWithCoords, start, end, options);
+        RoutePlan plan = planned.getPlan();
+        progress.report(80);
 
-            for (Schedule target : remaining) {
-                double dist = calculateDistance(current.getY(), current.getX(), target.getY(), target.getX());
-                if (dist < minDistance) {
-                    minDistance = dist;
-                    nearest = target;
-                }
-            }
+        String unit = routePlanService.unit();
+        double beforeCost = routePlanService.pathLength(schedulesWithCoords, options.isRoundTrip());
+        double afterCost = plan.getTotalCost();
+        log.info("Route cost ({}): before={}{}, after={}{}", plan.getStrategy(), beforeCost, unit, afterCost, unit);
 
-            if (nearest != null) {
-                optimizedList.add(nearest);
-                remaining.remove(nearest);
-                current = nearest;
-            } else {
-                // Should not happen, but just in case
-                break;
-            }
-        }
+        List<Schedule> optimizedList = new ArrayList<>(allSchedules.size());
+        optimizedList.addAll(planned.getOrder());
 
-        // 5. Merge optimized list with schedules without coordinates
+        // 6. Merge optimized list with schedules without coordinates
         // Place schedules without coordinates at the end
         optimizedList.addAll(schedulesWithoutCoords);
 
-        // 6. Reschedule times sequentially
-        LocalTime startTime = parseTime(allSchedules.get(0).getTime());
+        // 7. Reschedule times sequentially
+        LocalTime startTime = allSchedules.get(0).getTime();
         if (startTime == null) {
-            startTime = LocalTime.of(9, 0); // Default to 09:00 AM
+            startTime = DEFAULT_START_TIME; // Default to 09:00 AM
         }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm");
-
+        List<Schedule> changed = new ArrayList<>();
         for (int i = 0; i < optimizedList.size(); i++) {
             Schedule s = optimizedList.get(i);
 
-            // Assign time with 90-minute intervals
-            LocalTime scheduleTime = startTime.plusMinutes(i * 90L);
-            s.setTime(scheduleTime.format(formatter));
+            // Assign time with 90-minute intervals (시간이 그대로인 일정은 건드리지 않음)
+            LocalTime scheduleTime = startTime.plusMinutes(i * SLOT_MINUTES);
+            if (reschedule(s, day, scheduleTime)) {
+                changed.add(s);
+                log.debug("Schedule {} updated: {} at {}", s.getId(), s.getTitle(), s.getTime());
+            }
+        }
+
+        // 8. 바뀐 일정만 저장 (여기서만 쓰기 트랜잭션 - 트랜잭션 밖에서 읽은 일정이라 다시 불러와서 반영)
+        transactionTemplate.executeWithoutResult(status -> writeBackDetached(travelId, changed));
+        progress.report(95);
 
-            scheduleRepository.save(s);
-            log.debug("Schedule {} updated: {} at {}", s.getId(), s.getTitle(), s.getTime());
+        log.info("Route optimization completed. {} schedules optimized, {} changed.", optimizedList.size(), changed.size());
+        return RouteOptimizationResponse.of(n, beforeCost, afterCost, unit, plan.getStrategy(),
+                scheduleIds(optimizedList), scheduleIds(changed));
+    }
+
+    /**
+     * 하루 동선 최적화 미리보기 (저장하지 않음)
+     *
+     * 📌 반환값: 제안 순서, 구간별 거리, 전체 거리, 현재 순서의 거리
+     * 💡 계산 결과는 routePreviews 캐시에 저장 → 같은 조건으로 다시 미리보거나 실제 적용할 때 재사용
+     * 💡 트랜잭션 없음 - 거리 계산(외부 API 호출 가능) 동안 DB 커넥션을 잡지 않음
+     */
+    public RoutePreviewResponse previewRoute(Long travelId, int day, RouteOptions options) {
+        List<Schedule> allSchedules = scheduleRepository.findByTravel_TravelIdAndDayOrderByTimeAsc(travelId, day);
+        List<Schedule> located = allSchedules.stream().filter(Schedule::hasCoordinates).toList();
+
+        List<RoutePreviewResponse.Stop> stops = new ArrayList<>(allSchedules.size());
+        double currentCost = 0;
+        double totalCost = 0;
+        RouteStrategy strategy = null;
+        if (located.size() <= 1) {
+            located.forEach(s -> stops.add(RoutePreviewResponse.Stop.of(s.getId(), s.getTitle(), 0.0)));
+        } else {
+            int start = indexOf(located, options.getStartScheduleId(), 0);
+            int end = indexOf(located, options.getEndScheduleId(), -1);
+            if (end == start) {
+                end = -1;
+            }
+            RoutePlanService.PlannedRoute planned = routePlanService.plan(located, start, end, options);
+            double[] legCost = planned.getPlan().getLegCost();
+            for (int i = 0; i < planned.getOrder().size(); i++) {
+                Schedule s = planned.getOrder().get(i);
+                stops.add(RoutePreviewResponse.Stop.of(s.getId(), s.getTitle(), legCost[i]));
+            }
+            currentCost = routePlanService.pathLength(located, options.isRoundTrip());
+            totalCost = planned.getPlan().getTotalCost();
+            strategy = planned.getPlan().getStrategy();
         }
+        allSchedules.stream()
+                .filter(s -> !s.hasCoordinates())
+                .forEach(s -> stops.add(RoutePreviewResponse.Stop.of(s.getId(), s.getTitle(), null)));
 
-        log.info("Route optimization completed. {} schedules optimized.", optimizedList.size());
+        return RoutePreviewResponse.of(located.size(), currentCost, totalCost, routePlanService.unit(), strategy, stops);
     }
 
     /**
-     * Calculates the distance between two points using the Haversine formula.
+     * 여행 전체 동선 최적화 (일차 재배정 + 일차별 순서 최적화)
+     *
+     * 📌 동작 순서:
+     * 1. 좌표가 있는 모든 일정을 가까운 곳끼리 일차별로 묶음 (DayBalancer, 하루 최대 일정 수 제한)
+     * 2. 일차별 방문 순서를 routeSolverPool에서 병렬 계산 (출발지 자유, 편도)
+     * 3. 일차/시간을 한 트랜잭션에서 저장 (하나라도 실패하면 전체 롤백)
      *
-     * @param lat1 Latitude of point 1
-     * @param lon1 Longitude of point 1
-     * @param lat2 Latitude of point 2
-     * @param lon2 Longitude of point 2
-     * @return Distance in kilometers
+     * 💡 좌표 없는 일정은 원래 날짜에 그대로 두고 그날 마지막 순서로 배치
+     * 💡 여행 일수는 여행 시작/종료일 기준 (날짜가 없으면 일정의 최대 일차)
+     *
+     * @param travelId 여행 ID
+     * @param maxStopsPerDay 하루 최대 일정 수 (null이면 route.trip.max-stops-per-day)
+     * @return 최적화 전/후 일차별 이동 거리 합계
      */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // Earth radius in km
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2) +
-                   Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) *
-                   Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+    @Transactional
+    public TripOptimizationResponse optimizeTrip(Long travelId, Integer maxStopsPerDay) {
+        Travels travel = travelRepository.findById(travelId)
+                .orElseThrow(() -> new RuntimeException("여행을 찾을 수 없습니다."));
+
+        List<Schedule> allSchedules = scheduleRepository.findByTravel_TravelIdOrderByDayAscTimeAsc(travelId);
+        int days = tripDays(travel, allSchedules);
+        log.info("Optimizing whole trip for travelId: {} ({} days, {} schedules)", travelId, days, allSchedules.size());
+
+        // 1. 좌표 있는 일정만 재배정 대상 (일차·시간순)
+        List<Schedule> stops = allSchedules.stream().filter(Schedule::hasCoordinates).toList();
+        if (stops.isEmpty() || days < 1) {
+            log.warn("No schedules with valid coordinates to optimize");
+            return TripOptimizationResponse.unchanged(days);
+        }
+
+        int n = stops.size();
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        int[] originalDays = new int[n];
+        for (int i = 0; i < n; i++) {
+            latitudes[i] = stops.get(i).getY();
+            longitudes[i] = stops.get(i).getX();
+            originalDays[i] = stops.get(i).getDay() == null ? 0 : stops.get(i).getDay();
+        }
+
+        // 2. 일차 재배정 (하루 용량이 모자라면 일정 수 / 일수 올림으로 늘림)
+        int requested = maxStopsPerDay != null ? maxStopsPerDay : tripMaxStopsPerDay;
+        int capacity = Math.max(requested, (n + days - 1) / days);
+        int[] newDays = DayBalancer.assign(latitudes, longitudes, originalDays, days, capacity);
+
+        List<List<Integer>> before = new ArrayList<>();
+        List<List<Integer>> buckets = new ArrayList<>();
+        for (int day = 0; day <= days; day++) {
+            before.add(new ArrayList<>());
+            buckets.add(new ArrayList<>());
+        }
+        int movedStops = 0;
+        for (int i = 0; i < n; i++) {
+            if (originalDays[i] >= 1 && originalDays[i] <= days) {
+                before.get(originalDays[i]).add(i);
+            }
+            buckets.get(newDays[i]).add(i);
+            if (newDays[i] != originalDays[i]) {
+                movedStops++;
+            }
+        }
+
+        for (int day = 1; day <= days; day++) {
+            routePlanService.requireWithinLimit(buckets.get(day).size()); // 거리 계산 전에 확인
+        }
+
+        // 3. 일차별 순서 병렬 계산 (계산만 병렬 - 엔티티 수정/저장은 이 트랜잭션 스레드에서)
+        RouteSolver solver = routePlanService.newSolver();
+        List<Callable<RouteSolution>> tasks = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            int[] bucket = toArray(buckets.get(day));
+            tasks.add(() -> solveDay(solver, latitudes, longitudes, bucket));
+        }
+        List<RouteSolution> solutions = invokeAll(tasks);
+
+        // 4. 일차/시간 재배치 후 한 번에 저장 (시작 시간은 엔티티를 바꾸기 전에 일차별로 미리 계산)
+        LocalTime[] startTimes = new LocalTime[days + 1];
+        for (Schedule s : allSchedules) {
+            Integer day = s.getDay();
+            if (day != null && day >= 1 && day <= days && startTimes[day] == null) {
+                startTimes[day] = s.getTime();
+            }
+        }
+
+        double beforeKm = 0;
+        double afterKm = 0;
+        List<TripOptimizationResponse.DayRoute> dayRoutes = new ArrayList<>();
+        List<Schedule> changed = new ArrayList<>();
+        for (int day = 1; day <= days; day++) {
+            RouteSolution solution = solutions.get(day - 1);
+            int[] order = solution.getOrder();
+            double dayBeforeKm = pathKm(latitudes, longitudes, toArray(before.get(day)));
+            double dayAfterKm = pathKm(latitudes, longitudes, order);
+            beforeKm += dayBeforeKm;
+            afterKm += dayAfterKm;
+
+            List<Schedule> dayList = new ArrayList<>();
+            for (int index : order) {
+                dayList.add(stops.get(index));
+            }
+            final int currentDay = day;
+            allSchedules.stream()
+                    .filter(s -> !s.hasCoordinates() && s.getDay() != null && s.getDay() == currentDay)
+                    .forEach(dayList::add);
+
+            LocalTime startTime = startTimes[day] != null ? startTimes[day] : DEFAULT_START_TIME;
+            for (int i = 0; i < dayList.size(); i++) {
+                Schedule s = dayList.get(i);
+                if (reschedule(s, day, startTime.plusMinutes(i * SLOT_MINUTES))) {
+                    changed.add(s);
+                }
+            }
+            dayRoutes.add(TripOptimizationResponse.DayRoute.of(day, order.length, dayAfterKm, solution.getStrategy()));
+        }
+
+        writeBack(travelId, changed);
+        log.info("Trip optimization completed: {} stops, {} moved, {} changed, {}km -> {}km",
+                n, movedStops, changed.size(), beforeKm, afterKm);
+        return TripOptimizationResponse.of(days, n, movedStops, beforeKm, afterKm, dayRoutes, scheduleIds(changed));
+    }
+
+    // 일차/시간이 실제로 바뀔 때만 변경 (같은 값이면 엔티티를 건드리지 않음 → UPDATE/버전 증가 없음)
+    private boolean reschedule(Schedule s, int day, LocalTime time) {
+        if (Objects.equals(s.getDay(), day) && Objects.equals(s.getTime(), time)) {
+            return false;
+        }
+        s.setDay(day);
+        s.setTime(time);
+        return true;
+    }
+
+    /**
+     * 바뀐 일정만 저장 (호출하는 쪽의 트랜잭션 안에서 실행)
+     * - 한 번에 저장 → 커밋 시 UPDATE가 JDBC 배치(hibernate.jdbc.batch_size)로 묶여서 전송
+     * - 바뀐 일정이 없으면 저장도, 여행 일정 캐시 삭제도 하지 않음
+     */
+    private void writeBack(Long travelId, List<Schedule> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        scheduleRepository.saveAll(changed);
+        scheduleCacheService.evictTravel(travelId); // 커밋 후 여행 일정 캐시 삭제
+    }
+
+    /**
+     * 트랜잭션 밖에서 읽고 바꾼(분리된) 일정 저장 (호출하는 쪽의 트랜잭션 안에서 실행)
+     * - saveAll(merge)은 일정마다 SELECT를 한 번씩 보내므로, 바뀐 일정 ID로 한 번에 다시 조회 (SELECT ... IN 1번)
+     * - 읽은 시점의 버전과 다르면(계산 중 다른 멤버가 수정/삭제) 버전 충돌로 전체 롤백
+     * - 불러온 엔티티에 일차/시간만 반영 → 커밋 시 UPDATE가 JDBC 배치로 묶여서 전송 (WHERE version = ? 재확인 포함)
+     */
+    private void writeBackDetached(Long travelId, List<Schedule> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+        Map<Long, Schedule> managed = new HashMap<>();
+        for (Schedule s : scheduleRepository.findAllById(scheduleIds(changed))) {
+            managed.put(s.getId(), s);
+        }
+        for (Schedule snapshot : changed) {
+            Schedule current = managed.get(snapshot.getId());
+            if (current == null || !Objects.equals(current.getVersion(), snapshot.getVersion())) {
+                throw new ObjectOptimisticLockingFailureException(Schedule.class, snapshot.getId());
+            }
+            current.setDay(snapshot.getDay());
+            current.setTime(snapshot.getTime());
+        }
+        scheduleCacheService.evictTravel(travelId); // 커밋 후 여행 일정 캐시 삭제
+    }
+
+    // 출발/도착으로 지정한 일정의 정점 번호 (지정 안 했으면 기본값)
+    private int indexOf(List<Schedule> schedules, Long scheduleId, int defaultIndex) {
+        if (scheduleId == null) {
+            return defaultIndex;
+        }
+        for (int i = 0; i < schedules.size(); i++) {
+            if (scheduleId.equals(schedules.get(i).getId())) {
+                return i;
+            }
+        }
+        throw new InvalidRouteRequestException("출발/도착 일정은 좌표가 있는 같은 날 일정이어야 합니다: " + scheduleId);
+    }
+
+    /**
+     * 하루치 방문 순서 계산 (routeSolverPool 스레드에서 실행 - 배열만 다루고 엔티티는 건드리지 않음)
+     *
+     * @param stops 그날 일정의 전체 정점 번호
+     * @return 전체 정점 번호로 된 방문 순서
+     */
+    private RouteSolution solveDay(RouteSolver solver, double[] latitudes, double[] longitudes, int[] stops) {
+        int m = stops.length;
+        if (m <= 1) {
+            return new RouteSolution(stops, null);
+        }
+        double[] dayLatitudes = new double[m];
+        double[] dayLongitudes = new double[m];
+        for (int i = 0; i < m; i++) {
+            dayLatitudes[i] = latitudes[stops[i]];
+            dayLongitudes[i] = longitudes[stops[i]];
+        }
+        DistanceFunction distance = solver.isGreedyOnly(m)
+                ? DistanceMatrix.haversineOnDemand(dayLatitudes, dayLongitudes)
+                : DistanceMatrix.haversine(dayLatitudes, dayLongitudes);
+        RouteSolution local = solver.solve(distance, m, -1, -1, false);
+        int[] order = new int[m];
+        for (int i = 0; i < m; i++) {
+            order[i] = stops[local.getOrder()[i]];
+        }
+        return new RouteSolution(order, local.getStrategy());
     }
 
-    private LocalTime parseTime(String timeStr) {
+    private List<RouteSolution> invokeAll(List<Callable<RouteSolution>> tasks) {
         try {
-            if (timeStr == null || timeStr.isEmpty()) return null;
-            // Pad "9:00" to "09:00"
-            String[] parts = timeStr.split(":");
-            if (parts.length == 2) {
-                return LocalTime.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+            List<RouteSolution> results = new ArrayList<>(tasks.size());
+            for (Future<RouteSolution> future : routeSolverPool.invokeAll(tasks)) {
+                results.add(future.get());
             }
-            return null;
-        } catch (Exception e) {
-            log.warn("Failed to parse time string: {}", timeStr);
-            return null;
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("동선 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("동선 계산에 실패했습니다.", e.getCause());
         }
     }
+
+    // 주어진 순서대로 이동한 거리 (km)
+    private double pathKm(double[] latitudes, double[] longitudes, int[] order) {
+        double total = 0;
+        for (int i = 1; i < order.length; i++) {
+            total += DistanceMatrix.haversineKm(latitudes[order[i - 1]], longitudes[order[i - 1]],
+                    latitudes[order[i]], longitudes[order[i]]);
+        }
+        return total;
+    }
+
+    // 여행 일수 (시작/종료일 기준, 날짜가 없으면 일정의 최대 일차)
+    private int tripDays(Travels travel, List<Schedule> schedules) {
+        if (travel.getStartDate() != null && travel.getEndDate() != null
+                && !travel.getEndDate().isBefore(travel.getStartDate())) {
+            return (int) ChronoUnit.DAYS.between(travel.getStartDate(), travel.getEndDate()) + 1;
+        }
+        return schedules.stream()
+                .map(Schedule::getDay)
+                .filter(day -> day != null)
+                .mapToInt(Integer::intValue)
+                .max()
+                .orElse(0);
+    }
+
+    private List<Long> scheduleIds(List<Schedule> schedules) {
+        return schedules.stream().map(Schedule::getId).toList();
+    }
+
+    private int[] toArray(List<Integer> indexes) {
+        return indexes.stream().mapToInt(Integer::intValue).toArray();
+    }
 }
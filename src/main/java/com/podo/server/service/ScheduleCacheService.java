@@ -0,0 +1,90 @@
+package com.podo.server.service;
+
+import com.podo.server.entity.Schedule;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 일정 캐시("schedules") 조회/무효화 서비스
+ *
+ * 🎯 목적: 여행 하나의 전체 일정을 캐시 항목 1개로 관리
+ *         (일차별 조회도 이 항목에서 잘라서 반환 → 10일 여행이어도 Redis 키 1개)
+ *
+ * 📌 주요 기능:
+ * 1. getTrip(): 여행 전체 일정을 캐시에서 꺼내거나, 없으면 DB에서 한 번에 조회해 캐싱
+ * 2. evictTravel(): 해당 여행의 일정 캐시 삭제 (어느 일차가 바뀌어도 이 키 하나만 삭제)
+ *
+ * 🔑 캐시 Key: "{travelId}-all" (값 = 일차/시간 순으로 정렬된 일정 목록)
+ *
+ * 💡 삭제 시점: 트랜잭션 안에서 호출되면 커밋 후에 삭제
+ *    (커밋 전에 지우면 다른 요청이 아직 커밋 안 된 옛 데이터를 다시 캐싱할 수 있음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScheduleCacheService {
+
+    public static final String CACHE_NAME = "schedules";
+
+    private final CacheManager cacheManager;
+
+    // 캐시 키 생성 (예: "12-all" = 12번 여행 전체 일정)
+    public static String tripKey(Long travelId) {
+        return travelId + "-all";
+    }
+
+    /**
+     * 1️⃣ 여행 전체 일정 조회 (캐시 미스일 때만 loader로 DB 조회)
+     */
+    public List<Schedule> getTrip(Long travelId, Callable<List<Schedule>> loader) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return call(loader);
+        }
+        return cache.get(tripKey(travelId), loader);
+    }
+
+    /**
+     * 2️⃣ 여행 일정 캐시 삭제
+     */
+    public void evictTravel(Long travelId) {
+        afterCommit(() -> {
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.evict(tripKey(travelId));
+            }
+            log.debug("🧹 일정 캐시 삭제: {}", tripKey(travelId));
+        });
+    }
+
+    private List<Schedule> call(Callable<List<Schedule>> loader) {
+        try {
+            return loader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
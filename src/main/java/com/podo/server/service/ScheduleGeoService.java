@@ -0,0 +1,267 @@
+package com.podo.server.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.podo.server.dto.NearbyStopResponse;
+import com.podo.server.dto.PopularPlaceResponse;
+import com.podo.server.entity.Schedule;
+import com.podo.server.exception.InvalidRouteRequestException;
+import com.podo.server.repository.ScheduleRepository;
+import com.podo.server.route.DistanceMatrix;
+import com.podo.server.route.Geohash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 좌표 기반 일정 검색 (geohash 격자)
+ *
+ * 🎯 목적: "이 지점 근처 일정", "가장 가까운 일정", "이 근처 인기 장소"를
+ *         전체 일정을 훑으며 Haversine을 계산하지 않고 격자 칸 단위로 후보만 골라서 계산
+ *
+ * 📌 여행 안 검색 (nearby / nearest):
+ * - 자주 조회되는 여행은 일정을 geohash 6자리(약 1.2km × 0.6km) 타일로 묶어 메모리에 보관 (Caffeine)
+ * - 타일은 여행 일정 캐시에서 받은 목록으로 만들고, 목록 내용(일정 ID + 버전)이 바뀌면 다시 만듦
+ *   (캐시가 매번 새 List 객체를 돌려줘도 내용이 같으면 재사용)
+ * - 중심 칸 + 주변 8칸의 타일만 꺼내서 정확한 거리 계산
+ *
+ * 📌 여러 여행 검색 (popular):
+ * - schedule.geohash 인덱스로 중심 칸 + 주변 8칸 범위 조회 → 장소별로 등록한 여행 수를 DB에서 GROUP BY 집계
+ *
+ * 💡 geohash는 Schedule 저장 시 자동 계산, 기존 데이터는 ScheduleGeohashMigration이 채움
+ */
+@Slf4j
+@Service
+public class ScheduleGeoService {
+
+    private static final int TILE_PRECISION = 6;
+    private static final int MAX_PLACES_PER_CELL = 1_000;
+    private static final double KM_PER_DEGREE = 111.19; // 위도 1도 (지구 반지름 6371km 기준)
+
+    private final ScheduleService scheduleService;
+    private final ScheduleRepository scheduleRepository;
+    private final double maxRadiusKm;
+
+    // travelId → 타일 묶음 (자주 조회되는 여행만, 오래 안 쓰면 제거)
+    private final Cache<Long, TripTiles> hotTrips;
+
+    public ScheduleGeoService(ScheduleService scheduleService,
+                              ScheduleRepository scheduleRepository,
+                              @Value("${schedule.geo.hot-trips:500}") long hotTrips,
+                              @Value("${schedule.geo.idle-minutes:10}") long idleMinutes,
+                              @Value("${schedule.geo.max-radius-km:20}") double maxRadiusKm) {
+        this.scheduleService = scheduleService;
+        this.scheduleRepository = scheduleRepository;
+        this.maxRadiusKm = maxRadiusKm;
+        this.hotTrips = Caffeine.newBuilder()
+                .maximumSize(hotTrips)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .build();
+    }
+
+    /**
+     * 1️⃣ 여행 안에서 반경 내 일정 (가까운 순)
+     */
+    public List<NearbyStopResponse> nearby(Long travelId, double latitude, double longitude, double radiusKm, int limit) {
+        validate(latitude, longitude, limit);
+        double radius = clampRadius(radiusKm);
+        TripTiles tiles = tiles(travelId);
+        int precision = Geohash.precisionFor(radius, latitude, TILE_PRECISION);
+
+        List<NearbyStopResponse> result = new ArrayList<>();
+        for (Schedule s : tiles.candidates(Geohash.cellsAround(latitude, longitude, precision))) {
+            double distance = DistanceMatrix.haversineKm(latitude, longitude, s.getY(), s.getX());
+            if (distance <= radius) {
+                result.add(toNearby(s, distance));
+            }
+        }
+        result.sort(Comparator.comparingDouble(NearbyStopResponse::getDistanceKm));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * 2️⃣ 여행 안에서 가장 가까운 일정 (좌표 있는 일정이 없으면 null)
+     *
+     * 💡 작은 칸부터 찾고, 찾은 거리가 칸 크기보다 멀면 한 단계 큰 칸에서 다시 확인
+     *    (주변 8칸 밖에 더 가까운 일정이 있을 수 있으므로)
+     */
+    public NearbyStopResponse nearest(Long travelId, double latitude, double longitude) {
+        validate(latitude, longitude, 1);
+        TripTiles tiles = tiles(travelId);
+        for (int precision = TILE_PRECISION; precision >= 1; precision--) {
+            NearbyStopResponse best = closest(tiles.candidates(Geohash.cellsAround(latitude, longitude, precision)),
+                    latitude, longitude);
+            if (best != null && (best.getDistanceKm() <= Geohash.minCellSizeKm(precision, latitude) || precision == 1)) {
+                return best;
+            }
+        }
+        return closest(tiles.all(), latitude, longitude);
+    }
+
+    /**
+     * 3️⃣ 여러 여행에서 반경 내에 등록된 장소 (등록한 여행 수 많은 순 → 가까운 순)
+     */
+    public List<PopularPlaceResponse> popular(double latitude, double longitude, double radiusKm, int limit) {
+        validate(latitude, longitude, limit);
+        double radius = clampRadius(radiusKm);
+        int precision = Geohash.precisionFor(radius, latitude, Geohash.MAX_PRECISION);
+
+        // 반경을 감싸는 사각형 (칸 안에서도 반경 밖 일정은 DB에서 먼저 제외)
+        double latDelta = radius / KM_PER_DEGREE;
+        double lonDelta = latDelta / Math.max(Math.cos(Math.toRadians(latitude)), 1e-6);
+        double minLon = longitude - lonDelta;
+        double maxLon = longitude + lonDelta;
+        if (minLon < -180 || maxLon > 180) { // 날짜변경선에 걸치면 경도 조건 없이
+            minLon = -180;
+            maxLon = 180;
+        }
+
+        // 장소(이름 + 주소) → [경도 × 여행 수 합, 위도 × 여행 수 합, 여행 수 합]
+        // 💡 칸마다 DB에서 장소별로 집계된 행만 받음 (여행 수 많은 순이라 상한에 걸려도 인기 없는 장소만 빠짐)
+        //    같은 장소가 칸 경계에 걸친 드문 경우만 칸별 여행 수를 더함
+        Map<String, double[]> sums = new LinkedHashMap<>();
+        Map<String, String[]> names = new HashMap<>();
+        for (String cell : Geohash.cellsAround(latitude, longitude, precision)) {
+            List<Object[]> rows = scheduleRepository.countPlacesInGeohashCell(cell,
+                    latitude - latDelta, latitude + latDelta, minLon, maxLon, PageRequest.of(0, MAX_PLACES_PER_CELL));
+            for (Object[] row : rows) {
+                String placeName = (String) row[0];
+                String address = (String) row[1];
+                long trips = ((Number) row[4]).longValue();
+                String key = placeName + "|" + address;
+                double[] sum = sums.computeIfAbsent(key, k -> new double[3]);
+                sum[0] += ((Number) row[2]).doubleValue() * trips;
+                sum[1] += ((Number) row[3]).doubleValue() * trips;
+                sum[2] += trips;
+                names.putIfAbsent(key, new String[]{placeName, address});
+            }
+        }
+
+        List<PopularPlaceResponse> result = new ArrayList<>(sums.size());
+        sums.forEach((key, sum) -> {
+            double x = sum[0] / sum[2];
+            double y = sum[1] / sum[2];
+            double distance = DistanceMatrix.haversineKm(latitude, longitude, y, x);
+            if (distance <= radius) {
+                result.add(new PopularPlaceResponse(names.get(key)[0], names.get(key)[1], x, y, (long) sum[2], distance));
+            }
+        });
+        result.sort(Comparator.comparingLong(PopularPlaceResponse::getTrips).reversed()
+                .thenComparingDouble(PopularPlaceResponse::getDistanceKm));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    // 여행 일정 캐시에서 받은 목록의 내용(일정 ID + 버전)이 그대로면 타일 재사용, 바뀌었으면 다시 만듦
+    // 💡 Redis/L1 캐시는 조회마다 새 List를 돌려줄 수 있으므로 객체 동일성이 아니라 내용으로 비교
+    //    (지문 계산은 일정 수만큼 한 번 도는 것이라 geohash 계산이 필요한 타일 생성보다 훨씬 가벼움)
+    private TripTiles tiles(Long travelId) {
+        List<Schedule> trip = scheduleService.loadTrip(travelId);
+        long fingerprint = TripTiles.fingerprint(trip);
+        TripTiles cached = hotTrips.getIfPresent(travelId);
+        if (cached != null && cached.fingerprint == fingerprint) {
+            return cached;
+        }
+        TripTiles built = new TripTiles(trip, fingerprint);
+        hotTrips.put(travelId, built);
+        log.debug("📍 여행 {} 타일 생성: 일정 {}건, 타일 {}개", travelId, trip.size(), built.tiles.size());
+        return built;
+    }
+
+    private NearbyStopResponse closest(List<Schedule> candidates, double latitude, double longitude) {
+        NearbyStopResponse best = null;
+        for (Schedule s : candidates) {
+            double distance = DistanceMatrix.haversineKm(latitude, longitude, s.getY(), s.getX());
+            if (best == null || distance < best.getDistanceKm()) {
+                best = toNearby(s, distance);
+            }
+        }
+        return best;
+    }
+
+    private NearbyStopResponse toNearby(Schedule s, double distanceKm) {
+        return new NearbyStopResponse(s.getId(), s.getDay(), s.getTitle(), s.getPlaceName(), s.getX(), s.getY(),
+                Math.round(distanceKm * 1000) / 1000.0);
+    }
+
+    // 컨트롤러에서 검증하지만 다른 호출 경로를 위해 한 번 더 (NaN 포함)
+    private void validate(double latitude, double longitude, int limit) {
+        if (!(Math.abs(latitude) <= 90) || !(Math.abs(longitude) <= 180)) {
+            throw new InvalidRouteRequestException("좌표 범위가 잘못되었습니다: " + latitude + ", " + longitude);
+        }
+        if (limit < 1) {
+            throw new InvalidRouteRequestException("최대 개수는 1 이상이어야 합니다: " + limit);
+        }
+    }
+
+    private double clampRadius(double radiusKm) {
+        if (!(radiusKm > 0)) {
+            throw new InvalidRouteRequestException("반경은 0보다 커야 합니다: " + radiusKm);
+        }
+        return Math.min(radiusKm, maxRadiusKm);
+    }
+
+    /**
+     * 여행 하나의 좌표 있는 일정을 geohash 6자리 타일별로 묶은 것 (만든 뒤 변경 없음)
+     */
+    private static class TripTiles {
+        private final long fingerprint;
+        private final Map<String, List<Schedule>> tiles = new HashMap<>();
+
+        TripTiles(List<Schedule> source, long fingerprint) {
+            this.fingerprint = fingerprint;
+            for (Schedule s : source) {
+                if (s.hasCoordinates()) {
+                    String tile = Geohash.encode(s.getY(), s.getX(), TILE_PRECISION);
+                    tiles.computeIfAbsent(tile, k -> new ArrayList<>()).add(s);
+                }
+            }
+        }
+
+        // 주어진 칸(자릿수 ≤ 6)에 속하는 타일의 일정 (6자리면 타일을 바로 꺼냄, 더 큰 칸이면 앞자리 비교)
+        List<Schedule> candidates(Set<String> cells) {
+            List<Schedule> result = new ArrayList<>();
+            if (cells.isEmpty()) {
+                return result;
+            }
+            if (cells.iterator().next().length() == TILE_PRECISION) {
+                cells.forEach(cell -> result.addAll(tiles.getOrDefault(cell, List.of())));
+                return result;
+            }
+            tiles.forEach((tile, stops) -> {
+                for (String cell : cells) {
+                    if (tile.startsWith(cell)) {
+                        result.addAll(stops);
+                        break;
+                    }
+                }
+            });
+            return result;
+        }
+
+        // 일정 구성(추가/삭제)이나 내용(수정 시 @Version 증가)이 바뀌면 달라지는 값
+        static long fingerprint(List<Schedule> source) {
+            long hash = source.size();
+            for (Schedule s : source) {
+                hash = 31 * hash + Objects.hash(s.getId(), s.getVersion());
+            }
+            return hash;
+        }
+
+        List<Schedule> all() {
+            List<Schedule> result = new ArrayList<>();
+            tiles.values().forEach(result::addAll);
+            return result;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.podo.server.service;
 
+import com.podo.server.dto.ScheduleBulkRequest;
+import com.podo.server.dto.ScheduleBulkResponse;
 import com.podo.server.dto.ScheduleRequest;
 import com.podo.server.entity.Schedule;
 import com.podo.server.entity.Travels;
@@ -7,12 +9,13 @@ import com.podo.server.repository.ScheduleRepository;
 import com.podo.server.repository.TravelRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,23 +24,47 @@ public class ScheduleService {
 
     private final ScheduleRepository scheduleRepository;
     private final TravelRepository travelRepository;
+    private final ScheduleCacheService scheduleCacheService;
+
+    /**
+     * 여행 전체 일정 조회 (캐싱 적용)
+     * 모든 일차를 쿼리 1번으로 조회해 여행당 캐시 항목 1개로 30분간 유지
+     *
+     * @return 일차 → 시간순 일정 목록 (일차 오름차순)
+     *
+     * 💡 일차가 비어 있는 일정(day = null)은 어느 일차에도 속하지 않으므로 제외 (groupingBy는 null 키 불가)
+     */
+    public Map<Integer, List<Schedule>> getTripSchedules(Long travelId) {
+        return loadTrip(travelId).stream()
+                .filter(schedule -> schedule.getDay() != null)
+                .collect(Collectors.groupingBy(Schedule::getDay, TreeMap::new, Collectors.toList()));
+    }
 
     /**
      * 여행 일정 조회 (캐싱 적용)
-     * 같은 travelId와 day로 조회 시 30분간 캐시에서 반환
+     * 여행 전체 일정 캐시에서 해당 일차만 잘라서 반환
      */
-    @Cacheable(value = "schedules", key = "#travelId + '-' + #day")
     public List<Schedule> getSchedules(Long travelId, int day) {
-        log.debug("Fetching schedules from DB: travelId={}, day={}", travelId, day);
-        return scheduleRepository.findByTravel_TravelIdAndDayOrderByTimeAsc(travelId, day);
+        return loadTrip(travelId).stream()
+                .filter(schedule -> schedule.getDay() != null && schedule.getDay() == day)
+                .toList();
+    }
+
+    /**
+     * 여행 전체 일정 (일차 → 시간순, 여행 일정 캐시 사용)
+     */
+    public List<Schedule> loadTrip(Long travelId) {
+        return scheduleCacheService.getTrip(travelId, () -> {
+            log.debug("Fetching trip schedules from DB: travelId={}", travelId);
+            return scheduleRepository.findByTravel_TravelIdOrderByDayAscTimeAsc(travelId);
+        });
     }
 
     /**
      * 일정 생성 (캐시 무효화)
-     * 일정이 추가되면 해당 여행의 모든 캐시를 삭제하여 데이터 정합성 유지
+     * 일정이 추가되면 해당 여행의 일정 캐시를 삭제하여 데이터 정합성 유지
      */
     @Transactional
-    @CacheEvict(value = "schedules", key = "#travelId + '-' + #request.day")
     public Schedule createSchedule(Long travelId, ScheduleRequest request) {
         Travels travel = travelRepository.findById(travelId)
                 .orElseThrow(() -> new RuntimeException("여행을 찾을 수 없습니다."));
@@ -55,20 +82,26 @@ public class ScheduleService {
                 request.getAddress(),
                 travel
         );
+        scheduleCacheService.evictTravel(travelId);
         log.info("Creating schedule - Cache evicted: travelId={}, day={}", travelId, request.getDay());
         return scheduleRepository.save(schedule);
     }
 
     /**
      * 일정 수정 (캐시 무효화)
-     * 일정이 수정되면 해당 일정의 캐시를 삭제
+     * 일정이 수정되면 해당 여행의 일정 캐시만 삭제 (다른 여행의 캐시는 유지)
      */
     @Transactional
-    @CacheEvict(value = "schedules", allEntries = true)
     public Schedule updateSchedule(Long scheduleId, ScheduleRequest request) {
         Schedule schedule = scheduleRepository.findById(scheduleId)
                 .orElseThrow(() -> new RuntimeException("일정을 찾을 수 없습니다."));
 
+        Long travelId = schedule.getTravel().getTravelId();
+        Integer oldDay = schedule.getDay();
+
+        if (request.getDay() != null) {
+            schedule.setDay(request.getDay()); // 다른 일차로 이동
+        }
         schedule.setTime(request.getTime());
         schedule.setTitle(request.getTitle());
         schedule.setType(request.getType());
@@ -77,18 +110,104 @@ public class ScheduleService {
         schedule.setX(request.getX());
         schedule.setY(request.getY());
 
-        log.info("Updating schedule - All caches evicted");
+        scheduleCacheService.evictTravel(travelId);
+
+        log.info("Updating schedule - Cache evicted: travelId={}, day={} -> {}", travelId, oldDay, schedule.getDay());
         return scheduleRepository.save(schedule);
     }
 
+    /**
+     * 일정 일괄 변경 (캐시 무효화)
+     * 생성/수정/순서 변경/삭제를 한 트랜잭션으로 처리 (하나라도 실패하면 전부 롤백)
+     *
+     * 💡 DB 왕복 최소화:
+     * - 수정/삭제 대상은 findAllById로 한 번에 조회
+     * - INSERT/UPDATE/DELETE는 커밋 시 hibernate.jdbc.batch_size 단위로 묶여서 전송
+     *   (일정 ID가 시퀀스 방식이라 INSERT도 배치 가능)
+     */
+    @Transactional
+    public ScheduleBulkResponse bulkUpdate(Long travelId, ScheduleBulkRequest request) {
+        Travels travel = travelRepository.findById(travelId)
+                .orElseThrow(() -> new RuntimeException("여행을 찾을 수 없습니다."));
+
+        // 1. 생성
+        List<Schedule> created = request.getCreate().stream()
+                .map(item -> new Schedule(
+                        item.getDay(),
+                        item.getTime(),
+                        item.getType(),
+                        item.getTitle(),
+                        item.getLocation(),
+                        item.getColor(),
+                        item.getPlaceName(),
+                        item.getX(),
+                        item.getY(),
+                        item.getAddress(),
+                        travel
+                ))
+                .toList();
+        created = scheduleRepository.saveAll(created);
+
+        // 2. 수정 / 순서 변경 (관리 상태 엔티티라 커밋 시 변경 감지로 UPDATE)
+        Map<Long, Schedule> toUpdate = findOwned(travelId,
+                request.getUpdate().stream().map(ScheduleBulkRequest.Update::getId).toList());
+        for (ScheduleBulkRequest.Update item : request.getUpdate()) {
+            applyChanges(toUpdate.get(item.getId()), item);
+        }
+
+        // 3. 삭제
+        Map<Long, Schedule> toDelete = findOwned(travelId, request.getDelete());
+        scheduleRepository.deleteAll(toDelete.values());
+
+        scheduleCacheService.evictTravel(travelId);
+        log.info("Bulk schedule update - Cache evicted: travelId={}, created={}, updated={}, deleted={}",
+                travelId, created.size(), toUpdate.size(), toDelete.size());
+        return new ScheduleBulkResponse(created, toUpdate.size(), toDelete.size());
+    }
+
+    // 해당 여행의 일정인지 확인하면서 한 번에 조회 (없거나 다른 여행 일정이면 전체 롤백)
+    private Map<Long, Schedule> findOwned(Long travelId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        if (ids.contains(null)) {
+            throw new RuntimeException("일정 ID가 비어 있습니다.");
+        }
+        Map<Long, Schedule> found = scheduleRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Schedule::getId, schedule -> schedule));
+        for (Long id : ids) {
+            Schedule schedule = found.get(id);
+            if (schedule == null || !schedule.getTravel().getTravelId().equals(travelId)) {
+                throw new RuntimeException("일정을 찾을 수 없습니다: " + id);
+            }
+        }
+        return found;
+    }
+
+    private void applyChanges(Schedule schedule, ScheduleRequest item) {
+        if (item.getDay() != null) schedule.setDay(item.getDay());
+        if (item.getTime() != null) schedule.setTime(item.getTime());
+        if (item.getType() != null) schedule.setType(item.getType());
+        if (item.getTitle() != null) schedule.setTitle(item.getTitle());
+        if (item.getLocation() != null) schedule.setLocation(item.getLocation());
+        if (item.getColor() != null) schedule.setColor(item.getColor());
+        if (item.getPlaceName() != null) schedule.setPlaceName(item.getPlaceName());
+        if (item.getAddress() != null) schedule.setAddress(item.getAddress());
+        if (item.getX() != null) schedule.setX(item.getX());
+        if (item.getY() != null) schedule.setY(item.getY());
+    }
+
     /**
      * 일정 삭제 (캐시 무효화)
-     * 일정이 삭제되면 모든 일정 캐시를 삭제
+     * 일정이 삭제되면 해당 여행의 일정 캐시만 삭제
      */
     @Transactional
-    @CacheEvict(value = "schedules", allEntries = true)
     public void deleteSchedule(Long scheduleId) {
-        log.info("Deleting schedule - All caches evicted");
-        scheduleRepository.deleteById(scheduleId);
+        scheduleRepository.findById(scheduleId).ifPresent(schedule -> {
+            Long travelId = schedule.getTravel().getTravelId();
+            scheduleRepository.delete(schedule);
+            scheduleCacheService.evictTravel(travelId);
+            log.info("Deleting schedule - Cache evicted: travelId={}, day={}", travelId, schedule.getDay());
+        });
     }
 }
@@ -1,11 +1,26 @@
 package com.podo.server.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Redis 기반 세션 관리 서비스
@@ -18,9 +33,22 @@ import java.util.concurrent.TimeUnit;
  * 2. isSessionValid(): 세션이 유효한지 확인
  * 3. refreshSession(): 활동 시마다 TTL을 10분으로 갱신
  * 4. deleteSession(): 로그아웃 시 세션 삭제
+ * 5. touchSession(): 유효성 확인 + TTL 갱신을 Redis 왕복 1번으로 처리 (인터셉터용)
  *
  * 🔑 Redis Key 형식: "session:{email}"
  * 💾 Redis Value: JWT 토큰 또는 "ACTIVE" 같은 상태 값
+ *
+ * ⚡ 니어 캐시 (서버 메모리):
+ * - touchSession()으로 확인된 세션은 짧은 시간(session.near-cache.ttl-seconds) 동안 Redis 없이 통과
+ * - 로그아웃(deleteSession) 시 "session:invalidate" 채널로 발행 → 모든 서버가 즉시 로컬 항목 삭제
+ *
+ * 🛡️ Redis 장애 대비 (서킷 브레이커 "redis"):
+ * - 모든 Redis 호출은 redisCircuitBreaker를 거침
+ * - 서킷이 열리면 서버 메모리 세션 저장소(localSessions)로 대체 → 500 에러 대신 계속 서비스
+ *   · 정상 시에도 확인된 세션을 localSessions에 기록 (10분 미활동 시 자동 제거)
+ *   · 장애 중 처음 보는 사용자는 JWT 검증만으로 통과시키고 DEGRADED로 기록
+ *   · Redis 복구 후 장애 중 로그인한 세션(CREATED_DURING_OUTAGE)만 Redis에 다시 저장 (튕기지 않도록)
+ *   · DEGRADED 사용자는 복구 후 Redis 기록을 따름 (로그아웃/만료된 세션이 되살아나지 않도록)
  */
 @Slf4j
 @Service
@@ -28,10 +56,76 @@ import java.util.concurrent.TimeUnit;
 public class SessionService {
 
     private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final CircuitBreaker redisCircuitBreaker;
+
+    // 로그아웃 전파용 Pub/Sub 채널 (메시지 본문 = 이메일)
+    private static final String SESSION_INVALIDATE_CHANNEL = "session:invalidate";
 
     // 세션 만료 시간 (10분 미활동 시 자동 로그아웃)
     private static final long SESSION_TIMEOUT_MINUTES = 10;
 
+    /**
+     * 세션 확인 + 연장 Lua 스크립트 (Redis 서버에서 원자적으로 실행)
+     *
+     * KEYS[1] = 세션 키, ARGV[1] = 새 TTL(ms), ARGV[2] = 갱신 기준 TTL(ms)
+     * 반환값: -2 = 세션 없음, 그 외 = 스크립트 실행 후 남은 TTL(ms)
+     *
+     * 남은 TTL이 기준값보다 크면 PEXPIRE를 생략 (막 갱신된 세션에 쓰기 명령을 또 보내지 않음)
+     */
+    private static final RedisScript<Long> TOUCH_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "local ttl = redis.call('PTTL', KEYS[1]) " +
+            "if ttl == -2 then return -2 end " +
+            "if ttl < tonumber(ARGV[2]) then " +
+            "  redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "  return tonumber(ARGV[1]) " +
+            "end " +
+            "return ttl",
+            Long.class
+    );
+
+    // 남은 TTL이 이 값(초)보다 크면 갱신 생략 (기본 9분 → 최대 1분에 한 번만 EXPIRE)
+    @Value("${session.refresh-threshold-seconds:540}")
+    private long refreshThresholdSeconds;
+
+    // 니어 캐시 설정: 최대 사용자 수, Redis 재확인 없이 통과시키는 시간(초)
+    @Value("${session.near-cache.max-size:1000}")
+    private long nearCacheMaxSize;
+
+    @Value("${session.near-cache.ttl-seconds:10}")
+    private long nearCacheTtlSeconds;
+
+    // 최근 확인된 세션 (email → 확인 시각)
+    private Cache<String, Long> nearCache;
+
+    // Redis 장애 시 대체 세션 저장소 (email → 상태), 10분 동안 접근 없으면 자동 제거
+    private final Cache<String, LocalSession> localSessions = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofMinutes(SESSION_TIMEOUT_MINUTES))
+            .build();
+
+    private enum LocalSession {
+        ACTIVE,     // Redis에서 확인된 세션
+        CREATED_DURING_OUTAGE, // Redis 장애 중 saveSession()으로 로그인한 세션 (복구 후 Redis에 다시 저장)
+        DEGRADED,   // Redis 장애 중 기록 없이 JWT만으로 통과된 세션 (복구 대상 아님)
+        LOGGED_OUT  // 로그아웃 (이 서버 또는 Pub/Sub으로 전파됨, 장애 중 재사용 차단)
+    }
+
+    @PostConstruct
+    void initNearCache() {
+        nearCache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(nearCacheTtlSeconds))
+                .build();
+
+        // 다른 서버에서 로그아웃한 사용자도 즉시 로컬 캐시에서 제거
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String email = new String(message.getBody(), StandardCharsets.UTF_8);
+            nearCache.invalidate(email);
+            localSessions.put(email, LocalSession.LOGGED_OUT);
+            log.debug("🧹 니어 캐시 세션 제거 (Pub/Sub): {}", email);
+        }, new ChannelTopic(SESSION_INVALIDATE_CHANNEL));
+    }
+
     // Redis Key 생성 (예: "session:user@example.com")
     private String getSessionKey(String email) {
         return "session:" + email;
@@ -50,8 +144,13 @@ public class SessionService {
      */
     public void saveSession(String email, String token) {
         String key = getSessionKey(email);
-        redisTemplate.opsForValue().set(key, token, SESSION_TIMEOUT_MINUTES, TimeUnit.MINUTES);
-        log.info("✅ 세션 저장 완료: {} (TTL: {}분)", email, SESSION_TIMEOUT_MINUTES);
+        boolean saved = withRedis(() -> {
+            redisTemplate.opsForValue().set(key, token, SESSION_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+            return true;
+        }, () -> false);
+
+        localSessions.put(email, saved ? LocalSession.ACTIVE : LocalSession.CREATED_DURING_OUTAGE);
+        log.info("✅ 세션 저장 완료: {} (TTL: {}분{})", email, SESSION_TIMEOUT_MINUTES, saved ? "" : ", 로컬 대체");
     }
 
     /**
@@ -66,8 +165,9 @@ public class SessionService {
      */
     public boolean isSessionValid(String email) {
         String key = getSessionKey(email);
-        String session = redisTemplate.opsForValue().get(key);
-        boolean isValid = session != null;
+        boolean isValid = withRedis(
+                () -> redisTemplate.opsForValue().get(key) != null,
+                () -> isLocalSessionValid(email));
 
         if (isValid) {
             log.info("✅ 세션 유효: {}", email);
@@ -98,19 +198,68 @@ public class SessionService {
     public boolean refreshSession(String email) {
         String key = getSessionKey(email);
 
-        // 세션이 존재하는지 확인
-        String session = redisTemplate.opsForValue().get(key);
-        if (session == null) {
+        // TTL을 10분으로 다시 설정 (키가 없으면 false → 이미 만료된 세션)
+        boolean refreshed = withRedis(
+                () -> Boolean.TRUE.equals(redisTemplate.expire(key, SESSION_TIMEOUT_MINUTES, TimeUnit.MINUTES)),
+                () -> isLocalSessionValid(email));
+        if (!refreshed) {
             log.warn("⚠️ 세션이 만료되어 갱신 불가: {}", email);
             return false;
         }
 
-        // TTL을 10분으로 다시 설정 (시간 연장)
-        redisTemplate.expire(key, SESSION_TIMEOUT_MINUTES, TimeUnit.MINUTES);
         log.info("🔄 세션 갱신 완료: {} (새 TTL: {}분)", email, SESSION_TIMEOUT_MINUTES);
         return true;
     }
 
+    /**
+     * 🔁 세션 확인 + 갱신 (API 호출마다 인터셉터에서 호출)
+     *
+     * @param email 사용자 이메일
+     * @return true: 세션 유효 (필요하면 TTL 10분으로 연장됨), false: 세션 없음
+     *
+     * 💡 동작 원리:
+     * - isSessionValid() + refreshSession()을 Lua 스크립트 하나로 합침 (GET, GET, EXPIRE → 1번 왕복)
+     * - 남은 TTL이 기준값(session.refresh-threshold-seconds)보다 크면 EXPIRE 생략
+     * - 확인된 세션은 니어 캐시에 넣어 session.near-cache.ttl-seconds 동안 Redis 조회 없이 통과
+     *   예) 기준 9분: 09:00 로그인 → 09:00:30 호출은 갱신 생략, 09:01:10 호출은 09:11:10으로 연장
+     */
+    public boolean touchSession(String email) {
+        // 니어 캐시에 있으면 Redis 왕복 생략 (최근 ttl-seconds 안에 확인된 세션)
+        if (nearCache.getIfPresent(email) != null) {
+            return true;
+        }
+
+        String key = getSessionKey(email);
+        Long ttl = withRedis(() -> redisTemplate.execute(
+                TOUCH_SESSION_SCRIPT,
+                List.of(key),
+                String.valueOf(TimeUnit.MINUTES.toMillis(SESSION_TIMEOUT_MINUTES)),
+                String.valueOf(TimeUnit.SECONDS.toMillis(refreshThresholdSeconds))
+        ), () -> null);
+
+        // Redis 장애: 로컬 세션 저장소로 판단 (니어 캐시에는 넣지 않음)
+        if (ttl == null) {
+            return isLocalSessionValid(email);
+        }
+
+        if (ttl == -2) {
+            // 장애 중 로그인한 세션만 Redis에 다시 저장 (복구 직후 강제 로그아웃 방지)
+            // DEGRADED(기록 없이 통과)는 복원하지 않음 → Redis에 없으면 만료/로그아웃된 세션
+            if (localSessions.getIfPresent(email) == LocalSession.CREATED_DURING_OUTAGE) {
+                log.info("♻️ 장애 중 생성된 세션을 Redis에 복원: {}", email);
+                saveSession(email, "ACTIVE");
+                return true;
+            }
+            log.warn("⚠️ 세션 만료 또는 없음: {}", email);
+            return false;
+        }
+
+        localSessions.put(email, LocalSession.ACTIVE);
+        nearCache.put(email, System.currentTimeMillis());
+        log.debug("🔄 세션 확인 완료: {} (남은 TTL: {}ms)", email, ttl);
+        return true;
+    }
+
     /**
      * 4️⃣ 세션 삭제 (로그아웃 시 호출)
      *
@@ -118,11 +267,18 @@ public class SessionService {
      *
      * 💡 동작 원리:
      * - Redis에서 "session:email" 키 삭제
+     * - 니어 캐시에서도 삭제하고, Pub/Sub으로 다른 서버들에도 삭제 요청
      * - 즉시 로그아웃 처리
      */
     public void deleteSession(String email) {
         String key = getSessionKey(email);
-        redisTemplate.delete(key);
+        nearCache.invalidate(email);
+        localSessions.put(email, LocalSession.LOGGED_OUT);
+        withRedis(() -> {
+            redisTemplate.delete(key);
+            redisTemplate.convertAndSend(SESSION_INVALIDATE_CHANNEL, email);
+            return true;
+        }, () -> false);
         log.info("🗑️ 세션 삭제 완료 (로그아웃): {}", email);
     }
 
@@ -134,6 +290,29 @@ public class SessionService {
      */
     public String getSessionToken(String email) {
         String key = getSessionKey(email);
-        return redisTemplate.opsForValue().get(key);
+        return withRedis(() -> redisTemplate.opsForValue().get(key), () -> null);
+    }
+
+    /**
+     * Redis 장애 시 로컬 세션 저장소로 판단
+     * - LOGGED_OUT: 차단
+     * - ACTIVE / CREATED_DURING_OUTAGE / DEGRADED: 통과 (접근 시각 갱신 → 10분 미활동 로그아웃 유지)
+     * - 기록 없음: JWT는 이미 검증됐으므로 통과시키고 DEGRADED로 기록 (복구 후 Redis에 복원하지 않음)
+     */
+    private boolean isLocalSessionValid(String email) {
+        LocalSession state = localSessions.get(email, k -> LocalSession.DEGRADED);
+        return state != LocalSession.LOGGED_OUT;
+    }
+
+    // Redis 호출을 서킷 브레이커로 감싸기 (서킷 열림/Redis 오류 시 fallback 실행)
+    private <T> T withRedis(Supplier<T> action, Supplier<T> fallback) {
+        try {
+            return redisCircuitBreaker.executeSupplier(action);
+        } catch (CallNotPermittedException e) {
+            return fallback.get();
+        } catch (DataAccessException e) {
+            log.warn("⚠️ Redis 오류 - 로컬 세션으로 대체: {}", e.getMessage());
+            return fallback.get();
+        }
     }
 }
@@ -22,6 +22,7 @@ public class TravelService {
     private final MemberRepository memberRepository;
     private final com.podo.server.repository.UserRepository userRepository;
     private final com.podo.server.repository.ScheduleRepository scheduleRepository;
+    private final ScheduleCacheService scheduleCacheService;
 
     @Transactional
     public Long createTravel(TravelRequest request, String creatorEmail, String creatorName) {
@@ -109,6 +110,7 @@ public class TravelService {
         }
 
         travelRepository.delete(travel);
+        scheduleCacheService.evictTravel(travelId); // 이 여행의 일정 캐시만 삭제
         log.info("Travel deleted: ID={}, By={}", travelId, email);
     }
 
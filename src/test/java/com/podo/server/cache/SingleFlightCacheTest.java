@@ -0,0 +1,118 @@
+package com.podo.server.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 로딩 / 로딩 중 삭제 처리 - 저장소는 ConcurrentMapCache (Redis 대신)
+ */
+class SingleFlightCacheTest {
+
+    private static final String KEY = "travel:1";
+    private static final int CONCURRENT_MISSES = 50;
+
+    private final ExecutorService callers = Executors.newFixedThreadPool(CONCURRENT_MISSES);
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        SingleFlightCache cache = cache(new ConcurrentMapCache("schedules"));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_MISSES; i++) {
+            results.add(callers.submit(() -> {
+                start.await();
+                return cache.get(KEY, () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(200); // 나머지 요청이 모두 미스로 들어올 시간
+                    return "loaded";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(KEY).get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void evictDuringLoadSkipsStore() throws Exception {
+        ConcurrentMapCache store = new ConcurrentMapCache("schedules");
+        SingleFlightCache cache = cache(store);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch evicted = new CountDownLatch(1);
+
+        Future<String> result = callers.submit(() -> cache.get(KEY, () -> {
+            loading.countDown();
+            evicted.await();
+            return "before edit";
+        }));
+        loading.await();
+        cache.evict(KEY);
+        evicted.countDown();
+
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("before edit");
+        assertThat(store.get(KEY)).isNull();
+    }
+
+    @Test
+    void evictBetweenCheckAndStoreRemovesStoredValue() {
+        // 로딩 결과를 저장하기 직전(확인은 통과한 뒤)에 삭제가 끝나는 경우
+        AtomicInteger puts = new AtomicInteger();
+        SingleFlightCache[] holder = new SingleFlightCache[1];
+        ConcurrentMapCache store = new ConcurrentMapCache("schedules") {
+            @Override
+            public void put(Object key, Object value) {
+                if (puts.getAndIncrement() == 0) {
+                    holder[0].evict(key);
+                }
+                super.put(key, value);
+            }
+        };
+        holder[0] = cache(store);
+
+        assertThat(holder[0].get(KEY, () -> "before edit")).isEqualTo("before edit");
+        assertThat(store.get(KEY)).isNull();
+    }
+
+    @Test
+    void remoteInvalidateRemovesValueJustLoaded() {
+        // 다른 서버의 삭제 메시지가 이 서버의 저장보다 늦게 도착하는 경우
+        ConcurrentMapCache store = new ConcurrentMapCache("schedules");
+        SingleFlightCache cache = cache(store);
+
+        cache.get(KEY, () -> "before edit");
+        assertThat(store.get(KEY)).isNotNull();
+
+        cache.onRemoteInvalidate(KEY);
+        assertThat(store.get(KEY)).isNull();
+    }
+
+    private static SingleFlightCache cache(ConcurrentMapCache store) {
+        return new SingleFlightCache(store, Duration.ofMinutes(30), Runnable::run, 0, 100, 5_000,
+                new CacheMetrics(new SimpleMeterRegistry()));
+    }
+}
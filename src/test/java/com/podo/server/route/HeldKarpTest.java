@@ -0,0 +1,59 @@
+package com.podo.server.route;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class HeldKarpTest {
+
+    @Test
+    void openPathMatchesBruteForce() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 20; trial++) {
+            DistanceMatrix distance = RouteFixtures.randomPoints(random, 8);
+
+            int[] order = HeldKarp.solve(distance, 8, 0, -1);
+
+            RouteFixtures.assertPermutation(order, 8);
+            assertThat(order[0]).isZero();
+            assertThat(distance.pathLength(order))
+                    .isCloseTo(RouteFixtures.bestPathLength(distance, 0, -1), within(1e-9));
+        }
+    }
+
+    @Test
+    void fixedEndMatchesBruteForce() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 20; trial++) {
+            DistanceMatrix distance = RouteFixtures.randomPoints(random, 8);
+
+            int[] order = HeldKarp.solve(distance, 8, 2, 5);
+
+            RouteFixtures.assertPermutation(order, 8);
+            assertThat(order[0]).isEqualTo(2);
+            assertThat(order[7]).isEqualTo(5);
+            assertThat(distance.pathLength(order))
+                    .isCloseTo(RouteFixtures.bestPathLength(distance, 2, 5), within(1e-9));
+        }
+    }
+
+    @Test
+    void singleStopIsItsOwnRoute() {
+        DistanceMatrix distance = RouteFixtures.randomPoints(new Random(1), 1);
+
+        assertThat(HeldKarp.solve(distance, 1, 0, -1)).containsExactly(0);
+    }
+
+    @Test
+    void rejectsMoreThanMaxSize() {
+        int size = HeldKarp.MAX_SIZE + 1;
+        DistanceMatrix distance = RouteFixtures.randomPoints(new Random(3), size);
+
+        assertThatThrownBy(() -> HeldKarp.solve(distance, size, 0, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
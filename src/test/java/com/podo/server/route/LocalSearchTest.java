@@ -0,0 +1,63 @@
+package com.podo.server.route;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LocalSearchTest {
+
+    private static final int SIZE = 80;
+
+    @Test
+    void fixedEndKeepsBothEndpointsAndNeverGetsLonger() {
+        Random random = new Random(31);
+        for (int trial = 0; trial < 10; trial++) {
+            DistanceMatrix distance = RouteFixtures.randomPoints(random, SIZE);
+            int[] order = NearestNeighbor.solve(distance, SIZE, 0, SIZE - 1);
+            double before = distance.pathLength(order);
+
+            LocalSearch.improve(order, distance, deadline(), true);
+
+            RouteFixtures.assertPermutation(order, SIZE);
+            assertThat(order[0]).isZero();
+            assertThat(order[SIZE - 1]).isEqualTo(SIZE - 1);
+            assertThat(distance.pathLength(order)).isLessThanOrEqualTo(before);
+        }
+    }
+
+    @Test
+    void openEndKeepsStartAndNeverGetsLonger() {
+        Random random = new Random(32);
+        for (int trial = 0; trial < 10; trial++) {
+            DistanceMatrix distance = RouteFixtures.randomPoints(random, SIZE);
+            int[] order = NearestNeighbor.solve(distance, SIZE, 5);
+            double before = distance.pathLength(order);
+
+            LocalSearch.improve(order, distance, deadline());
+
+            RouteFixtures.assertPermutation(order, SIZE);
+            assertThat(order[0]).isEqualTo(5);
+            assertThat(distance.pathLength(order)).isLessThanOrEqualTo(before);
+        }
+    }
+
+    @Test
+    void removesCrossingFromShuffledRoute() {
+        // 정사각형 네 꼭짓점을 대각선으로 엇갈려 방문 → 2-opt가 교차를 풀어야 함
+        DistanceMatrix distance = DistanceMatrix.haversine(
+                new double[]{37.50, 37.50, 37.60, 37.60},
+                new double[]{127.00, 127.10, 127.10, 127.00});
+        int[] order = {0, 2, 1, 3};
+
+        LocalSearch.improve(order, distance, deadline(), true);
+
+        assertThat(order).containsExactly(0, 1, 2, 3);
+    }
+
+    private static long deadline() {
+        return System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    }
+}
@@ -0,0 +1,70 @@
+package com.podo.server.route;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 경로 계산 테스트 공용 도구 (무작위 좌표, 완전 탐색 최단 거리, 순열 검사)
+ */
+final class RouteFixtures {
+
+    private RouteFixtures() {
+    }
+
+    // 서울 근방 무작위 좌표의 거리 행렬
+    static DistanceMatrix randomPoints(Random random, int size) {
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = 37.45 + random.nextDouble() * 0.2;
+            longitudes[i] = 126.85 + random.nextDouble() * 0.3;
+        }
+        return DistanceMatrix.haversine(latitudes, longitudes);
+    }
+
+    static void assertPermutation(int[] order, int size) {
+        int[] sorted = order.clone();
+        Arrays.sort(sorted);
+        assertThat(sorted).containsExactly(IntStream.range(0, size).toArray());
+    }
+
+    /**
+     * 완전 탐색 최단 경로 길이
+     *
+     * @param start 출발 정점 (-1이면 자유)
+     * @param end 도착 정점 (-1이면 자유)
+     */
+    static double bestPathLength(DistanceMatrix distance, int start, int end) {
+        return best(distance, IntStream.range(0, distance.size()).toArray(), 0, start, end, false);
+    }
+
+    // 완전 탐색 최단 순환 경로 길이 (출발지로 돌아오는 거리 포함)
+    static double bestCycleLength(DistanceMatrix distance) {
+        return best(distance, IntStream.range(0, distance.size()).toArray(), 1, 0, -1, true);
+    }
+
+    private static double best(DistanceFunction distance, int[] order, int position, int start, int end, boolean cycle) {
+        if (position == order.length) {
+            if ((start >= 0 && order[0] != start) || (end >= 0 && order[order.length - 1] != end)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return RouteSolver.length(distance, order, cycle);
+        }
+        double best = Double.POSITIVE_INFINITY;
+        for (int i = position; i < order.length; i++) {
+            swap(order, position, i);
+            best = Math.min(best, best(distance, order, position + 1, start, end, cycle));
+            swap(order, position, i);
+        }
+        return best;
+    }
+
+    private static void swap(int[] order, int i, int j) {
+        int tmp = order[i];
+        order[i] = order[j];
+        order[j] = tmp;
+    }
+}
@@ -0,0 +1,117 @@
+package com.podo.server.route;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RouteSolverTest {
+
+    private static final int SIZE = 8;
+
+    private final RouteSolver exactSolver = new RouteSolver(12, 2000, 200);
+
+    @Test
+    void fixedEndIsOptimalAndEndsAtEnd() {
+        Random random = new Random(21);
+        for (int trial = 0; trial < 10; trial++) {
+            DistanceMatrix distance = RouteFixtures.randomPoints(random, SIZE);
+
+            RouteSolution solution = exactSolver.solve(distance, SIZE, 1, 6, false);
+
+            int[] order = solution.getOrder();
+            RouteFixtures.assertPermutation(order, SIZE);
+            assertThat(order[0]).isEqualTo(1);
+            assertThat(order[SIZE - 1]).isEqualTo(6);
+            assertThat(solution.getStrategy()).isEqualTo(RouteStrategy.EXACT);
+            assertThat(RouteSolver.length(distance, order, false))
+                    .isCloseTo(RouteFixtures.bestPathLength(distance, 1, 6), within(1e-9));
+        }
+    }
+
+    @Test
+    void roundTripIsOptimalCycleListingStartOnce() {
+        Random random = new Random(22);
+        for (int trial = 0; trial < 10; trial++) {
+            DistanceMatrix distance = RouteFixtures.randomPoints(random, SIZE);
+
+            RouteSolution solution = exactSolver.solve(distance, SIZE, 3, -1, true);
+
+            int[] order = solution.getOrder();
+            RouteFixtures.assertPermutation(order, SIZE);
+            assertThat(order[0]).isEqualTo(3);
+            assertThat(RouteSolver.length(distance, order, true))
+                    .isCloseTo(RouteFixtures.bestCycleLength(distance), within(1e-9));
+        }
+    }
+
+    @Test
+    void freeStartIsAtLeastAsShortAsEveryFixedStart() {
+        Random random = new Random(23);
+        for (int trial = 0; trial < 10; trial++) {
+            DistanceMatrix distance = RouteFixtures.randomPoints(random, SIZE);
+
+            RouteSolution solution = exactSolver.solve(distance, SIZE, -1, -1, false);
+
+            int[] order = solution.getOrder();
+            RouteFixtures.assertPermutation(order, SIZE);
+            assertThat(RouteSolver.length(distance, order, false))
+                    .isCloseTo(RouteFixtures.bestPathLength(distance, -1, -1), within(1e-9));
+        }
+    }
+
+    @Test
+    void freeStartKeepsFixedEnd() {
+        DistanceMatrix distance = RouteFixtures.randomPoints(new Random(24), SIZE);
+
+        int[] order = exactSolver.solve(distance, SIZE, -1, 4, false).getOrder();
+
+        RouteFixtures.assertPermutation(order, SIZE);
+        assertThat(order[SIZE - 1]).isEqualTo(4);
+        assertThat(RouteSolver.length(distance, order, false))
+                .isCloseTo(RouteFixtures.bestPathLength(distance, -1, 4), within(1e-9));
+    }
+
+    @Test
+    void largeDayUsesLocalSearchWithFixedEndpoints() {
+        int size = 60;
+        DistanceMatrix distance = RouteFixtures.randomPoints(new Random(25), size);
+
+        RouteSolution solution = exactSolver.solve(distance, size, 10, 20, false);
+
+        int[] order = solution.getOrder();
+        RouteFixtures.assertPermutation(order, size);
+        assertThat(order[0]).isEqualTo(10);
+        assertThat(order[size - 1]).isEqualTo(20);
+        assertThat(solution.getStrategy()).isEqualTo(RouteStrategy.LOCAL_SEARCH);
+    }
+
+    @Test
+    void greedyOnlyInputsGiveSameRouteWithoutMatrix() {
+        RouteSolver greedySolver = new RouteSolver(12, 50, 200);
+        int size = 60;
+        Random random = new Random(25);
+        double[] latitudes = new double[size];
+        double[] longitudes = new double[size];
+        for (int i = 0; i < size; i++) {
+            latitudes[i] = 37.45 + random.nextDouble() * 0.2;
+            longitudes[i] = 126.85 + random.nextDouble() * 0.3;
+        }
+        DistanceMatrix matrix = DistanceMatrix.haversine(latitudes, longitudes);
+        DistanceFunction onDemand = DistanceMatrix.haversineOnDemand(latitudes, longitudes);
+
+        assertThat(greedySolver.isGreedyOnly(size)).isTrue();
+        assertThat(greedySolver.isGreedyOnly(50)).isFalse();
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                assertThat(onDemand.between(i, j)).isCloseTo(matrix.between(i, j), within(1e-12));
+            }
+        }
+        RouteSolution withMatrix = greedySolver.solve(matrix, size, 0, -1, false);
+        RouteSolution withoutMatrix = greedySolver.solve(onDemand, size, 0, -1, false);
+        assertThat(withoutMatrix.getOrder()).isEqualTo(withMatrix.getOrder());
+        assertThat(withoutMatrix.getStrategy()).isEqualTo(RouteStrategy.GREEDY);
+    }
+}
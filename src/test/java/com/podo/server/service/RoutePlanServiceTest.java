@@ -0,0 +1,186 @@
+package com.podo.server.service;
+
+import com.podo.server.dto.RouteOptimizationResponse;
+import com.podo.server.dto.RoutePreviewResponse;
+import com.podo.server.entity.Schedule;
+import com.podo.server.exception.InvalidRouteRequestException;
+import com.podo.server.repository.ScheduleRepository;
+import com.podo.server.repository.TravelRepository;
+import com.podo.server.route.RouteOptions;
+import com.podo.server.route.RoutePlan;
+import com.podo.server.route.StubDistanceProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동선 계산 캐시 (routePreviews) - 외부 호출 없는 StubDistanceProvider로 확인
+ */
+class RoutePlanServiceTest {
+
+    private static final Long TRAVEL_ID = 1L;
+    private static final int DAY = 1;
+    private static final int STOPS = 20; // 정확해 한도(12)보다 많음 → 시간 예산이 있는 개선 단계 사용
+
+    private final StubDistanceProvider distanceProvider = new StubDistanceProvider();
+    private ConcurrentMapCacheManager cacheManager;
+    private RoutePlanService routePlanService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(RoutePlanService.CACHE_NAME);
+        routePlanService = new RoutePlanService(cacheManager, distanceProvider);
+        ReflectionTestUtils.setField(routePlanService, "exactMaxStops", 12);
+        ReflectionTestUtils.setField(routePlanService, "localSearchBudgetMillis", 200L);
+        ReflectionTestUtils.setField(routePlanService, "localSearchMaxStops", 2000);
+        ReflectionTestUtils.setField(routePlanService, "maxStops", 5000);
+    }
+
+    @Test
+    void planIsCachedUnderContentKeyRegardlessOfInputOrder() {
+        List<Schedule> stops = schedules(new Random(41));
+        RoutePlanService.PlannedRoute first = routePlanService.plan(stops, 0, -1, RouteOptions.defaults());
+
+        // 같은 일정을 다른 순서로 넘겨도 (출발지는 같게) 같은 키
+        List<Schedule> shuffled = new ArrayList<>(stops.subList(1, stops.size()));
+        Collections.shuffle(shuffled, new Random(42));
+        shuffled.add(0, stops.get(0));
+        RoutePlanService.PlannedRoute second = routePlanService.plan(shuffled, 0, -1, RouteOptions.defaults());
+
+        assertThat(cachedKeys()).hasSize(1);
+        assertThat(String.valueOf(cachedKeys().get(0))).matches("[0-9a-f]{64}");
+        assertThat(second.getPlan()).isSameAs(first.getPlan());
+        assertThat(ids(second.getOrder())).isEqualTo(ids(first.getOrder()));
+    }
+
+    @Test
+    void differentOptionsOrCoordinatesUseDifferentKeys() {
+        List<Schedule> stops = schedules(new Random(43));
+        routePlanService.plan(stops, 0, -1, RouteOptions.defaults());
+        routePlanService.plan(stops, 0, -1, new RouteOptions(null, null, true));
+        routePlanService.plan(stops, 0, stops.size() - 1, RouteOptions.defaults());
+
+        stops.get(5).setX(stops.get(5).getX() + 0.001);
+        routePlanService.plan(stops, 0, -1, RouteOptions.defaults());
+
+        assertThat(cachedKeys()).hasSize(4);
+    }
+
+    @Test
+    void planUsesProviderCostsAndUnit() {
+        List<Schedule> stops = schedules(new Random(44));
+        RoutePlanService.PlannedRoute planned = routePlanService.plan(stops, 0, -1, RouteOptions.defaults());
+        RoutePlan plan = planned.getPlan();
+
+        assertThat(routePlanService.unit()).isEqualTo(distanceProvider.unit()).isEqualTo("km");
+        assertThat(ids(planned.getOrder().subList(0, 1))).containsExactly(stops.get(0).getId());
+        assertThat(plan.getTotalCost())
+                .isCloseTo(routePlanService.pathLength(planned.getOrder(), false), within(1e-9));
+        double legSum = 0;
+        for (double leg : plan.getLegCost()) {
+            legSum += leg;
+        }
+        assertThat(legSum).isCloseTo(plan.getTotalCost(), within(1e-9));
+    }
+
+    @Test
+    void previewAndCommitReturnSameOrder() {
+        List<Schedule> stops = schedules(new Random(45));
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findByTravel_TravelIdAndDayOrderByTimeAsc(TRAVEL_ID, DAY)).thenReturn(stops);
+        when(scheduleRepository.findAllById(anyIterable())).thenReturn(stops);
+        RouteService routeService = routeService(scheduleRepository);
+
+        RoutePreviewResponse preview = routeService.previewRoute(TRAVEL_ID, DAY, RouteOptions.defaults());
+        RouteOptimizationResponse committed = routeService.optimizeRoute(TRAVEL_ID, DAY, RouteOptions.defaults());
+
+        List<Long> previewOrder = preview.getOrder().stream().map(RoutePreviewResponse.Stop::getScheduleId).toList();
+        assertThat(committed.getOrder()).isEqualTo(previewOrder);
+        assertThat(committed.getAfterCost()).isCloseTo(preview.getTotalCost(), within(0.01));
+        assertThat(committed.getUnit()).isEqualTo(preview.getUnit()).isEqualTo("km");
+        assertThat(cachedKeys()).hasSize(1);
+    }
+
+    @Test
+    void commitRejectsSchedulesEditedDuringCalculation() {
+        List<Schedule> stops = schedules(new Random(46));
+        ScheduleRepository scheduleRepository = mock(ScheduleRepository.class);
+        when(scheduleRepository.findByTravel_TravelIdAndDayOrderByTimeAsc(TRAVEL_ID, DAY)).thenReturn(stops);
+        // 저장 시점에 다시 읽은 일정은 다른 멤버가 이미 수정 (버전 증가)
+        when(scheduleRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Schedule> reloaded = new ArrayList<>();
+            for (Schedule s : stops) {
+                Schedule copy = new Schedule(s.getDay(), s.getTime(), s.getType(), s.getTitle(), null, s.getColor(),
+                        s.getPlaceName(), s.getX(), s.getY(), null, null);
+                copy.setId(s.getId());
+                copy.setVersion(s.getVersion() + 1);
+                reloaded.add(copy);
+            }
+            return reloaded;
+        });
+
+        assertThatThrownBy(() -> routeService(scheduleRepository).optimizeRoute(TRAVEL_ID, DAY, RouteOptions.defaults()))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(scheduleRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void daysAboveStopLimitAreRejectedBeforeCalculation() {
+        ReflectionTestUtils.setField(routePlanService, "maxStops", STOPS - 1);
+        List<Schedule> stops = schedules(new Random(47));
+
+        assertThatThrownBy(() -> routePlanService.plan(stops, 0, -1, RouteOptions.defaults()))
+                .isInstanceOf(InvalidRouteRequestException.class);
+        assertThat(cachedKeys()).isEmpty();
+    }
+
+    private RouteService routeService(ScheduleRepository scheduleRepository) {
+        return new RouteService(scheduleRepository, mock(ScheduleCacheService.class),
+                mock(TravelRepository.class), ForkJoinPool.commonPool(), routePlanService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+    }
+
+    // 서울 근방 무작위 좌표의 하루 일정 (시간순)
+    private static List<Schedule> schedules(Random random) {
+        List<Schedule> schedules = new ArrayList<>();
+        for (int i = 0; i < STOPS; i++) {
+            Schedule schedule = new Schedule(DAY, LocalTime.of(9, 0).plusMinutes(i * 30L), "travel", "stop " + i,
+                    null, "blue", "place " + i,
+                    126.85 + random.nextDouble() * 0.3, 37.45 + random.nextDouble() * 0.2, null, null);
+            schedule.setId(100L + i);
+            schedules.add(schedule);
+        }
+        return schedules;
+    }
+
+    private List<Object> cachedKeys() {
+        ConcurrentMapCache cache = (ConcurrentMapCache) cacheManager.getCache(RoutePlanService.CACHE_NAME);
+        return new ArrayList<>(cache.getNativeCache().keySet());
+    }
+
+    private static List<Long> ids(List<Schedule> schedules) {
+        return schedules.stream().map(Schedule::getId).toList();
+    }
+}